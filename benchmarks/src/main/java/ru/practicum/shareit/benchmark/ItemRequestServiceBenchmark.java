@@ -0,0 +1,43 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ItemRequestServiceBenchmark {
+
+    private ItemRequestService itemRequestService;
+
+    @Setup
+    public void setUp(SeededServer server) {
+        itemRequestService = server.bean(ItemRequestService.class);
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDtoWithItems> findAllRequests(SeededServer server) {
+        return itemRequestService.findAllRequests(server.randomUserId(), 0, 20);
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDtoWithItems> findAll(SeededServer server) {
+        return itemRequestService.findAll(server.randomUserId());
+    }
+}
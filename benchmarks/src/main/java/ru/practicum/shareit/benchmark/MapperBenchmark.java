@@ -0,0 +1,85 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20"})
+    public int pageSize;
+
+    private List<Booking> bookings;
+    private List<Item> items;
+    private List<ItemRequest> requests;
+
+    @Setup
+    public void setUp() {
+        var now = LocalDateTime.now();
+        bookings = new ArrayList<>(pageSize);
+        items = new ArrayList<>(pageSize);
+        requests = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            var owner = new User(i, "owner" + i, "owner" + i + "@mail.ru");
+            var booker = new User(i + pageSize, "booker" + i, "booker" + i + "@mail.ru");
+            var request = new ItemRequest(i, "Нужна дрель", now.minusDays(1), booker);
+            var item = new Item(i, "Дрель " + i, "Простая дрель", true, owner, request);
+            requests.add(request);
+            items.add(item);
+            bookings.add(new Booking(i, now.plusDays(i), now.plusDays(i + 1), item, booker, Status.APPROVED));
+        }
+    }
+
+    @Benchmark
+    public void bookingToBookingDto(Blackhole blackhole) {
+        bookings.forEach(booking -> blackhole.consume(BookingMapper.toBookingDto(booking)));
+    }
+
+    @Benchmark
+    public void bookingToBookingDtoForItem(Blackhole blackhole) {
+        bookings.forEach(booking -> blackhole.consume(BookingMapper.toBookingDtoForItem(booking)));
+    }
+
+    @Benchmark
+    public void itemToItemDto(Blackhole blackhole) {
+        items.forEach(item -> blackhole.consume(ItemMapper.toItemDto(item)));
+    }
+
+    @Benchmark
+    public void itemToItemDtoWithBooking(Blackhole blackhole) {
+        items.forEach(item -> blackhole.consume(ItemMapper.toItemDtoWithBooking(item)));
+    }
+
+    @Benchmark
+    public void itemRequestToItemRequestDto(Blackhole blackhole) {
+        requests.forEach(request -> blackhole.consume(ItemRequestMapper.toItemRequestDto(request)));
+    }
+}
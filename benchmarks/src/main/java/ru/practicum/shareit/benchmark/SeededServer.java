@@ -0,0 +1,148 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.search.InMemoryItemSearchIndex;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+@State(Scope.Benchmark)
+public class SeededServer {
+
+    static final String[] WORDS = {"Дрель", "Отвертка", "Стремянка", "Перфоратор", "Пила", "Молоток", "Лобзик",
+        "Шуруповерт", "Палатка", "Велосипед", "Самокат", "Удочка", "Гитара", "Проектор", "Фотоаппарат", "Штатив"};
+    private static final String[] STATUSES = {"APPROVED", "WAITING", "REJECTED"};
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1000"})
+    public int users;
+
+    @Param({"10"})
+    public int itemsPerUser;
+
+    @Param({"10"})
+    public int bookingsPerItem;
+
+    @Param({"5"})
+    public int requestsPerUser;
+
+    @Param({"2"})
+    public int commentsPerItem;
+
+    @Param({"like"})
+    public String searchBackend;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .profiles("ci")
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--shareit.search.backend=" + searchBackend,
+                        "--logging.level.root=WARN");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed();
+        context.getBeanProvider(InMemoryItemSearchIndex.class).ifAvailable(InMemoryItemSearchIndex::rebuild);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        jdbcTemplate.execute("SHUTDOWN");
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(users) + 1;
+    }
+
+    private void seed() {
+        var now = LocalDateTime.now();
+        var itemCount = users * itemsPerUser;
+        var requestCount = users * requestsPerUser;
+
+        insert("INSERT INTO users (name, email) VALUES (?, ?)", users,
+                i -> new Object[]{"user" + i, "user" + i + "@mail.ru"});
+        insert("INSERT INTO requests (description, user_id, created) VALUES (?, ?, ?)", requestCount,
+                i -> new Object[]{"Нужна " + word().toLowerCase() + " на выходные", i / requestsPerUser + 1,
+                        Timestamp.valueOf(now.minusMinutes(requestCount - i))});
+        insert("INSERT INTO items (name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)",
+                itemCount, i -> {
+                    var name = word();
+                    var requestId = requestCount > 0 && i % 4 == 0 ? (Object) (random.nextInt(requestCount) + 1L) : null;
+                    return new Object[]{name + " " + i, name + " в хорошем состоянии", i % 10 != 0,
+                            i / itemsPerUser + 1, requestId};
+                });
+        insert("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)",
+                itemCount * bookingsPerItem, i -> {
+                    var start = bookingStart(now, i);
+                    return new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(2)),
+                            i / bookingsPerItem + 1, otherUser(i / bookingsPerItem / itemsPerUser + 1),
+                            STATUSES[i / 3 % STATUSES.length]};
+                });
+        insert("INSERT INTO comments (comment_text, item_id, author_id, created) VALUES (?, ?, ?, ?)",
+                itemCount * commentsPerItem, i -> new Object[]{"Все отлично", i / commentsPerItem + 1,
+                        random.nextInt(users) + 1, Timestamp.valueOf(now.minusDays(1))});
+    }
+
+    private LocalDateTime bookingStart(LocalDateTime now, int i) {
+        switch (i % 3) {
+            case 0:
+                return now.minusDays(10).minusHours(i % 1000);
+            case 1:
+                return now.minusDays(1);
+            default:
+                return now.plusDays(1).plusHours(i % 1000);
+        }
+    }
+
+    private long otherUser(long ownerId) {
+        var userId = random.nextInt(users) + 1L;
+        return userId == ownerId ? userId % users + 1 : userId;
+    }
+
+    private String word() {
+        return WORDS[(int) (Math.pow(random.nextDouble(), 2) * WORDS.length)];
+    }
+
+    private void insert(String sql, int count, Row row) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(row.values(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private interface Row {
+        Object[] values(int index);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.request.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RequestItemMatcherBenchmark {
+
+    private static final String[] SYLLABLES = {"ба", "ве", "ги", "до", "жу", "за", "ки", "ло", "му", "не",
+        "по", "ру", "са", "ти", "фу", "ха", "це", "чи", "ша", "юр"};
+    private static final int REPLACED_IDS = 1000;
+
+    @Param({"1000000"})
+    public int items;
+
+    @Param({"10000"})
+    public int requests;
+
+    private RequestItemMatcher matcher;
+    private User owner;
+    private User requester;
+    private List<String> descriptions;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        Executor direct = Runnable::run;
+        matcher = new RequestItemMatcher(null, null, direct, 5, 0.3);
+        owner = new User(1L, "owner", "owner@mail.ru");
+        requester = new User(2L, "requester", "requester@mail.ru");
+
+        var random = new Random(42);
+        descriptions = random.ints(REPLACED_IDS, 0, Integer.MAX_VALUE)
+                .mapToObj(seed -> text(new Random(seed), 6))
+                .collect(Collectors.toList());
+        for (long id = 1; id <= items; id++) {
+            matcher.itemSaved(new Item(id, text(random, 2), text(random, 6), true, owner, null));
+        }
+        for (long id = 1; id <= requests; id++) {
+            matcher.requestSaved(new ItemRequest(id, text(random, 5), LocalDateTime.now(), requester));
+        }
+    }
+
+    @Benchmark
+    public List<Long> matchNewRequest() {
+        var slot = counter++ % REPLACED_IDS;
+        var requestId = requests + 1 + slot;
+        matcher.requestSaved(new ItemRequest(requestId, descriptions.get((int) slot), LocalDateTime.now(), requester));
+        return matcher.findSuggestedItemIds(requestId);
+    }
+
+    @Benchmark
+    public void matchNewItem() {
+        var slot = counter++ % REPLACED_IDS;
+        matcher.itemSaved(new Item(items + 1 + slot, "Новая вещь", descriptions.get((int) slot), true, owner, null));
+    }
+
+    private static String text(Random random, int words) {
+        var text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            var first = (int) (Math.pow(random.nextDouble(), 3) * SYLLABLES.length);
+            text.append(SYLLABLES[first])
+                    .append(SYLLABLES[random.nextInt(SYLLABLES.length)])
+                    .append(SYLLABLES[random.nextInt(SYLLABLES.length)])
+                    .append(' ');
+        }
+        return text.toString();
+    }
+}
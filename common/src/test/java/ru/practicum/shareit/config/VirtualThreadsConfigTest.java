@@ -0,0 +1,66 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withUserConfiguration(VirtualThreadsConfig.class);
+
+    @Test
+    void disabledByDefaultTest() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(TomcatProtocolHandlerCustomizer.class).isEmpty());
+            assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty());
+        });
+    }
+
+    @Test
+    void runsRequestsOnVirtualThreadsTest() {
+        contextRunner.withPropertyValues("shareit.virtual-threads.enabled=true").run(context -> {
+            assertEquals(1, context.getBeansOfType(TomcatProtocolHandlerCustomizer.class).size());
+
+            var executor = context.getBean(ExecutorService.class);
+            assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).get());
+        });
+    }
+
+    @Test
+    void reportsPinnedVirtualThreadsTest() throws Exception {
+        var monitor = new VirtualThreadPinningMonitor(new SimpleMeterRegistry(), Duration.ofMillis(10));
+        monitor.start();
+        try {
+            var lock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (monitor.pinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertTrue(monitor.pinnedCount() > 0);
+        } finally {
+            monitor.stop();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class BookingClient extends BaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    public BookingClient(WebClient webClient) {
+        super(webClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookings(long userId, BookingState state, Integer from, Integer size,
+                                                    String after) {
+        return get("?state={state}&from={from}&size={size}" + afterParam(after), userId,
+                pageParameters(state, from, size, after));
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsByItemOwnerId(long userId, BookingState state, Integer from,
+                                                                 Integer size, String after) {
+        return get("/owner?state={state}&from={from}&size={size}" + afterParam(after), userId,
+                pageParameters(state, from, size, after));
+    }
+
+    public Mono<ResponseEntity<Object>> bookItem(long userId, BookItemRequestDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getBooking(long userId, Long bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> approveBook(Long userId, Long bookingId, Boolean approved) {
+        Map<String, Object> parameters = Map.of(
+                "approved", approved
+        );
+        return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteById(long bookingId) {
+        return delete("/" + bookingId);
+    }
+
+    private static String afterParam(String after) {
+        return after == null ? "" : "&after={after}";
+    }
+
+    private static Map<String, Object> pageParameters(BookingState state, Integer from, Integer size, String after) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        ));
+        if (after != null) {
+            parameters.put("after", after);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exception.EnumStateException;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RestController
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class BookingController {
+    private final BookingClient bookingClient;
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                    @RequestParam(name = "state", defaultValue = "all")
+                                                    String stateParam,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0")
+                                                    Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10")
+                                                    Integer size,
+                                                    @RequestParam(required = false) String after) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new EnumStateException("Unknown state: " + stateParam));
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", stateParam, userId, from, size,
+                after);
+        return bookingClient.getBookings(userId, state, from, size, after);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Object>> getBookingsByItemOwnerId(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                 @RequestParam(defaultValue = "ALL") String state,
+                                                                 @PositiveOrZero
+                                                                 @RequestParam(name = "from", defaultValue = "0")
+                                                                 Integer from,
+                                                                 @Positive
+                                                                 @RequestParam(name = "size", defaultValue = "10")
+                                                                 Integer size,
+                                                                 @RequestParam(required = false) String after) {
+        BookingState stateParam = BookingState.from(state)
+                .orElseThrow(() -> new EnumStateException("Unknown state: " + state));
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", state, userId, from, size,
+                after);
+        return bookingClient.getBookingsByItemOwnerId(userId, stateParam, from, size, after);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> bookItem(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                 @RequestBody @Valid BookItemRequestDto requestDto) {
+        log.info("Creating booking {}, userId={}", requestDto, userId);
+        return bookingClient.bookItem(userId, requestDto);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                   @PathVariable Long bookingId) {
+        log.info("Get booking {}, userId={}", bookingId, userId);
+        return bookingClient.getBooking(userId, bookingId);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> approve(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                @PathVariable long bookingId, @RequestParam Boolean approved) {
+        log.info("Approve booking {}, userId={}", bookingId, userId);
+        return bookingClient.approveBook(userId, bookingId, approved);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteById(@PathVariable long id) {
+        log.info("Delete booking {}", id);
+        return bookingClient.deleteById(id).then();
+    }
+}
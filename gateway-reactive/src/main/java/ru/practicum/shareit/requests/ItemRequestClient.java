@@ -0,0 +1,45 @@
+package ru.practicum.shareit.requests;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.requests.dto.ItemRequestDto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class ItemRequestClient extends BaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    public ItemRequestClient(WebClient webClient) {
+        super(webClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Object>> save(long userId, ItemRequestDto itemRequestDto) {
+        return post("", userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> findAll(long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> findAllRequests(long userId, Integer from, Integer size, String after) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        if (after == null) {
+            return get("/all?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("after", after);
+        return get("/all?from={from}&size={size}&after={after}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> findByRequestId(long userId, long requestId) {
+        return get("/" + requestId, userId);
+    }
+}
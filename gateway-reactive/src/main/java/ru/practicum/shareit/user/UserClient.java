@@ -0,0 +1,38 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+@Service
+public class UserClient extends BaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    public UserClient(WebClient webClient) {
+        super(webClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Object>> getUsers() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<Object>> save(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getUser(long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteUser(long userId) {
+        return delete("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> updateUser(long userId, UserDto userDto) {
+        return patch("/" + userId, userDto);
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(BookingController.class)
+class BookingControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Test
+    void getBookingsPassesStateAndPageToClientTest() {
+        when(bookingClient.getBookings(1L, BookingState.WAITING, 5, 10, null))
+                .thenReturn(Mono.just(ResponseEntity.ok(Map.of("id", 1))));
+
+        webTestClient.get().uri("/bookings?state=waiting&from=5&size=10")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    void getBookingsWithUnknownStateTest() {
+        webTestClient.get().uri("/bookings?state=UNSUPPORTED_STATUS")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Unknown state: UNSUPPORTED_STATUS");
+
+        webTestClient.get().uri("/bookings/owner?state=UNSUPPORTED_STATUS")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Unknown state: UNSUPPORTED_STATUS");
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getBookingsWithNegativeFromTest() {
+        webTestClient.get().uri("/bookings?from=-1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        webTestClient.get().uri("/bookings/owner?from=-1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getBookingsWithZeroSizeTest() {
+        webTestClient.get().uri("/bookings?size=0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        webTestClient.get().uri("/bookings/owner?size=0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void bookItemInPastTest() {
+        when(bookingClient.bookItem(anyLong(), any())).thenReturn(Mono.just(ResponseEntity.ok().build()));
+
+        webTestClient.post().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("itemId", 1,
+                        "start", LocalDateTime.now().minusDays(2).toString(),
+                        "end", LocalDateTime.now().minusDays(1).toString()))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(bookingClient);
+    }
+}
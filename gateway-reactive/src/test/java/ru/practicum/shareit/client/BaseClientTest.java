@@ -0,0 +1,84 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.item.ItemClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseClientTest {
+
+    private static final String LARGE_BODY = IntStream.range(0, 20_000)
+            .mapToObj(id -> "{\"id\":" + id + ",\"name\":\"Дрель\",\"description\":\"Аккумуляторная дрель\"}")
+            .collect(Collectors.joining(",", "[", "]"));
+
+    private final Map<String, String> receivedUserIds = new ConcurrentHashMap<>();
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private ItemClient itemClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/items", (request, response) -> {
+                            receivedUserIds.put(request.uri(), request.requestHeaders().get("X-Sharer-User-Id"));
+                            return response.header("Content-Type", "application/json")
+                                    .sendString(Mono.just(LARGE_BODY), StandardCharsets.UTF_8);
+                        })
+                        .get("/items/{id}", (request, response) -> response.status(404)
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"message\":\"Вещь не найдена.\"}"), StandardCharsets.UTF_8)))
+                .bindNow();
+
+        var properties = new HttpClientProperties();
+        var config = new WebClientConfig();
+        connectionProvider = config.shareItServerConnectionProvider(properties);
+        var webClient = config.shareItServerWebClient("http://localhost:" + server.port(), WebClient.builder(),
+                connectionProvider, properties);
+        itemClient = new ItemClient(webClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void largeResponseIsProxiedWholeTest() {
+        var response = itemClient.getAll(1L, 0, 20).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        var body = (byte[]) response.getBody();
+        assertNotNull(body);
+        assertTrue(body.length > 256 * 1024);
+        assertEquals(LARGE_BODY, new String(body, StandardCharsets.UTF_8));
+        assertEquals("1", receivedUserIds.get("/items?from=0&size=20"));
+    }
+
+    @Test
+    void errorStatusAndBodyArePassedThroughTest() {
+        var response = itemClient.getItem(42L, 1L).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("{\"message\":\"Вещь не найдена.\"}",
+                new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ItemController.class)
+class ItemControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @Test
+    void searchPassesPageToClientTest() {
+        when(itemClient.searchItem("дрель", 0, 20))
+                .thenReturn(Mono.just(ResponseEntity.ok(List.of(Map.of("id", 1)))));
+
+        webTestClient.get().uri("/items/search?text={text}", "дрель")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].id").isEqualTo(1);
+    }
+
+    @Test
+    void findAllWithInvalidPageTest() {
+        webTestClient.get().uri("/items?from=-1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        webTestClient.get().uri("/items/search?text=drill&size=0")
+                .exchange()
+                .expectStatus().is5xxServerError();
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void createItemWithoutNameTest() {
+        webTestClient.post().uri("/items")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("description", "Простая дрель", "available", true))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(itemClient);
+    }
+}
@@ -27,11 +27,13 @@ public class BookingController {
     public ResponseEntity<Object> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                              @RequestParam(required = false) String after) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new EnumStateException("Unknown state: " + stateParam));
-        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getBookings(userId, state, from, size);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", stateParam, userId, from, size,
+                after);
+        return bookingClient.getBookings(userId, state, from, size, after);
     }
 
     @GetMapping("/owner")
@@ -41,11 +43,13 @@ public class BookingController {
                                                            @RequestParam(name = "from", defaultValue = "0")
                                                            Integer from,
                                                            @Positive @RequestParam(name = "size", defaultValue = "10")
-                                                           Integer size) {
+                                                           Integer size,
+                                                           @RequestParam(required = false) String after) {
         BookingState stateParam = BookingState.from(state)
                 .orElseThrow(() -> new EnumStateException("Unknown state: " + state));
-        log.info("Get booking with state {}, userId={}, from={}, size={}", state, userId, from, size);
-        return bookingClient.getBookingsByItemOwnerId(userId, stateParam, from, size);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", state, userId, from, size,
+                after);
+        return bookingClient.getBookingsByItemOwnerId(userId, stateParam, from, size, after);
     }
 
     @PostMapping
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.client.cache;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Getter
+public enum CacheableRoute {
+    ITEM("^/items/\\d+$", true, "items", "bookings"),
+    ITEM_SEARCH("^/items/search$", false, "items"),
+    OTHER_USERS_REQUESTS("^/requests/all$", true, "requests", "items"),
+    USER("^/users/\\d+$", false, "users");
+
+    private final Pattern pattern;
+    private final boolean userDependent;
+    private final List<String> domains;
+
+    CacheableRoute(String pattern, boolean userDependent, String... domains) {
+        this.pattern = Pattern.compile(pattern);
+        this.userDependent = userDependent;
+        this.domains = List.of(domains);
+    }
+
+    public static Optional<CacheableRoute> match(String path) {
+        for (CacheableRoute route : values()) {
+            if (route.pattern.matcher(path).matches()) {
+                return Optional.of(route);
+            }
+        }
+        return Optional.empty();
+    }
+}
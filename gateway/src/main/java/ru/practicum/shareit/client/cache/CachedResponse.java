@@ -0,0 +1,78 @@
+package ru.practicum.shareit.client.cache;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class CachedResponse implements ClientHttpResponse {
+
+    private final HttpStatus status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    @Getter
+    private final DataVersion version;
+
+    private CachedResponse(HttpStatus status, HttpHeaders headers, byte[] body, DataVersion version) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.version = version;
+    }
+
+    public static CachedResponse of(ClientHttpResponse response, DataVersion version) throws IOException {
+        try (response) {
+            var headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            return new CachedResponse(response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(headers),
+                    StreamUtils.copyToByteArray(response.getBody()), version);
+        }
+    }
+
+    public boolean matches(HttpHeaders requestHeaders) {
+        var eTag = headers.getETag();
+        if (eTag == null) {
+            return false;
+        }
+        var ifNoneMatch = requestHeaders.getIfNoneMatch();
+        return ifNoneMatch.contains("*") || ifNoneMatch.contains(eTag);
+    }
+
+    public CachedResponse notModified() {
+        return new CachedResponse(HttpStatus.NOT_MODIFIED, headers, new byte[0], version);
+    }
+
+    @Override
+    public HttpStatus getStatusCode() {
+        return status;
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return status.value();
+    }
+
+    @Override
+    public String getStatusText() {
+        return status.getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.client.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@EqualsAndHashCode
+public class DataVersion {
+
+    public static final String DATA_VERSION_HEADER = "X-Data-Version";
+
+    private static final String EPOCH = "epoch";
+
+    private final long epoch;
+    private final Map<String, Long> versions;
+
+    DataVersion(long epoch, Map<String, Long> versions) {
+        this.epoch = epoch;
+        this.versions = versions;
+    }
+
+    @Nullable
+    public static DataVersion parse(@Nullable String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        Long epoch = null;
+        Map<String, Long> versions = new HashMap<>();
+        try {
+            for (String pair : header.split(";")) {
+                var separator = pair.indexOf('=');
+                var name = pair.substring(0, separator).trim();
+                var value = Long.parseLong(pair.substring(separator + 1).trim());
+                if (EPOCH.equals(name)) {
+                    epoch = value;
+                } else {
+                    versions.put(name, value);
+                }
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            return null;
+        }
+        return epoch == null ? null : new DataVersion(epoch, versions);
+    }
+
+    public long get(String domain) {
+        return versions.getOrDefault(domain, 0L);
+    }
+}
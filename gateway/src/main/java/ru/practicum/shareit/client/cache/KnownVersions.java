@@ -0,0 +1,34 @@
+package ru.practicum.shareit.client.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class KnownVersions {
+
+    private long epoch = Long.MIN_VALUE;
+    private final Map<String, Long> versions = new HashMap<>();
+
+    public synchronized void observe(DataVersion version) {
+        if (version.getEpoch() < epoch) {
+            return;
+        }
+        if (version.getEpoch() > epoch) {
+            epoch = version.getEpoch();
+            versions.clear();
+        }
+        version.getVersions().forEach((domain, value) -> versions.merge(domain, value, Math::max));
+    }
+
+    public synchronized boolean isCurrent(DataVersion version, Collection<String> domains) {
+        if (version.getEpoch() != epoch) {
+            return false;
+        }
+        for (String domain : domains) {
+            if (version.get(domain) < versions.getOrDefault(domain, 0L)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+@ConditionalOnProperty(name = "shareit-gateway.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public Cache<String, CachedResponse> gatewayResponseCache(ResponseCacheProperties properties,
+                                                              MeterRegistry meterRegistry) {
+        Cache<String, CachedResponse> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.responses");
+    }
+
+    @Bean
+    public ResponseCacheInterceptor responseCacheInterceptor(Cache<String, CachedResponse> gatewayResponseCache,
+                                                             MeterRegistry meterRegistry) {
+        return new ResponseCacheInterceptor(gatewayResponseCache, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplateCustomizer responseCacheCustomizer(ResponseCacheInterceptor responseCacheInterceptor) {
+        return restTemplate -> restTemplate.getInterceptors().add(responseCacheInterceptor);
+    }
+}
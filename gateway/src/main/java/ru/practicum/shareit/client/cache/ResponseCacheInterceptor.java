@@ -0,0 +1,88 @@
+package ru.practicum.shareit.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+import static ru.practicum.shareit.client.cache.DataVersion.DATA_VERSION_HEADER;
+
+public class ResponseCacheInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    private final Cache<String, CachedResponse> cache;
+    private final KnownVersions knownVersions = new KnownVersions();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    public ResponseCacheInterceptor(Cache<String, CachedResponse> cache, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.stale = counter(meterRegistry, "stale");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        var route = request.getMethod() == HttpMethod.GET
+                ? CacheableRoute.match(request.getURI().getPath()).orElse(null)
+                : null;
+        if (route == null) {
+            var response = execution.execute(request, body);
+            observe(response);
+            return response;
+        }
+
+        var key = key(route, request);
+        var cached = cache.asMap().get(key);
+        if (cached != null) {
+            if (knownVersions.isCurrent(cached.getVersion(), route.getDomains())) {
+                hits.increment();
+                return cached.matches(request.getHeaders()) ? cached.notModified() : cached;
+            }
+            cache.asMap().remove(key, cached);
+            stale.increment();
+        } else {
+            misses.increment();
+        }
+
+        var response = execution.execute(request, body);
+        var version = observe(response);
+        if (version == null || response.getStatusCode() != HttpStatus.OK) {
+            return response;
+        }
+        var fresh = CachedResponse.of(response, version);
+        cache.put(key, fresh);
+        return fresh;
+    }
+
+    private DataVersion observe(ClientHttpResponse response) throws IOException {
+        var version = DataVersion.parse(response.getHeaders().getFirst(DATA_VERSION_HEADER));
+        if (version != null) {
+            knownVersions.observe(version);
+        }
+        return version;
+    }
+
+    static String key(CacheableRoute route, HttpRequest request) {
+        var uri = request.getURI();
+        var key = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        return route.isUserDependent() ? key + "#" + request.getHeaders().getFirst(USER_ID_HEADER) : key;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.response.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
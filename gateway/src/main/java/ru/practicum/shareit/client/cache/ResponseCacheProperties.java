@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 10_000;
+
+    private Duration ttl = Duration.ofSeconds(30);
+}
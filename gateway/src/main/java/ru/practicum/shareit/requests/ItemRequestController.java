@@ -36,9 +36,10 @@ public class ItemRequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> findAllRequests(@RequestHeader("X-Sharer-User-Id") long userId,
                                                          @PositiveOrZero @RequestParam(defaultValue = "0") int from,
-                                                         @Positive @RequestParam(defaultValue = "20") int size) {
-        log.info("Метод GET /requests/all. UserId: {}, from: {}, size: {}", userId, from, size);
-        return itemRequestClient.findAllRequests(userId, from, size);
+                                                         @Positive @RequestParam(defaultValue = "20") int size,
+                                                         @RequestParam(required = false) String after) {
+        log.info("Метод GET /requests/all. UserId: {}, from: {}, size: {}, after: {}", userId, from, size, after);
+        return itemRequestClient.findAllRequests(userId, from, size, after);
     }
 
     @GetMapping("/{requestId}")
@@ -0,0 +1,162 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseClientTest {
+
+    private static final int CALLERS = 8;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Map<String, Integer> callsByCaller = new ConcurrentHashMap<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile RuntimeException upstreamFailure;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new TestClient(new RestTemplate() {
+            @Override
+            public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                                  Class<T> responseType, Object... uriVariables) {
+                var caller = requestEntity.getHeaders().getFirst("X-Sharer-User-Id") + "#"
+                        + requestEntity.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+                callsByCaller.merge(caller, 1, Integer::sum);
+                upstreamCalls.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (upstreamFailure != null) {
+                    throw upstreamFailure;
+                }
+                return ResponseEntity.ok(responseType.cast(caller.getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneUpstreamCallTest() throws Exception {
+        var results = callConcurrently(caller -> client.find(1L, null));
+
+        assertEquals(1, upstreamCalls.get());
+        for (Object result : results) {
+            var response = (ResponseEntity<?>) result;
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("1#null", new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void differentUsersAndConditionalHeadersDoNotShareTest() throws Exception {
+        var results = callConcurrently(caller -> client.find(caller % 2 + 1L, caller < CALLERS / 2 ? null : "\"v1\""));
+
+        assertEquals(4, upstreamCalls.get());
+        assertEquals(Map.of("1#null", 1, "2#null", 1, "1#\"v1\"", 1, "2#\"v1\"", 1), callsByCaller);
+        for (int caller = 0; caller < CALLERS; caller++) {
+            var expected = (caller % 2 + 1) + "#" + (caller < CALLERS / 2 ? "null" : "\"v1\"");
+            var response = (ResponseEntity<?>) results.get(caller);
+            assertEquals(expected, new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void upstreamFailureReachesEveryWaiterAndClearsEntryTest() throws Exception {
+        upstreamFailure = new ResourceAccessException("Сервер недоступен");
+
+        var results = callConcurrently(caller -> client.find(1L, null));
+
+        assertEquals(1, upstreamCalls.get());
+        results.forEach(result -> assertSame(upstreamFailure, result));
+
+        upstreamFailure = null;
+        var response = client.find(1L, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private List<Object> callConcurrently(Call call) throws Exception {
+        var results = new Object[CALLERS];
+        var threads = new ArrayList<Thread>();
+        for (int caller = 0; caller < CALLERS; caller++) {
+            var index = caller;
+            threads.add(new Thread(() -> {
+                try {
+                    results[index] = call.run(index);
+                } catch (RuntimeException e) {
+                    results[index] = e;
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        awaitBlocked(threads);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void awaitBlocked(List<Thread> threads) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING
+                && thread.getState() != Thread.State.TIMED_WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "Вызовы не дошли до ожидания ответа");
+            Thread.sleep(5);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object run(int caller);
+    }
+
+    private static class TestClient extends BaseClient {
+
+        TestClient(RestTemplate rest) {
+            super(rest);
+        }
+
+        ResponseEntity<Object> find(long userId, String ifNoneMatch) {
+            var request = new MockHttpServletRequest();
+            if (ifNoneMatch != null) {
+                request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+            }
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                return get("/items/1", userId);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package ru.practicum.shareit.client.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.client.cache.DataVersion.DATA_VERSION_HEADER;
+
+class ResponseCacheInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> upstreamCalls = new ArrayList<>();
+    private ResponseCacheInterceptor interceptor;
+    private String upstreamVersion;
+    private int upstreamBody;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ResponseCacheInterceptor(Caffeine.newBuilder().<String, CachedResponse>build(),
+                meterRegistry);
+        upstreamVersion = "epoch=1;items=1;bookings=1;users=1";
+    }
+
+    @Test
+    void repeatedGetIsServedFromCacheTest() throws IOException {
+        assertEquals("body-1", body(get("/items/1", 1L)));
+        assertEquals("body-1", body(get("/items/1", 1L)));
+
+        assertEquals(1, upstreamCalls.size());
+        assertEquals(1, count("hit"));
+        assertEquals(1, count("miss"));
+    }
+
+    @Test
+    void userDependentRoutesAreCachedPerUserTest() throws IOException {
+        get("/items/1", 1L);
+        assertEquals("body-2", body(get("/items/1", 2L)));
+
+        assertEquals(2, upstreamCalls.size());
+        assertEquals(2, count("miss"));
+    }
+
+    @Test
+    void nonCacheableRoutesAlwaysGoUpstreamTest() throws IOException {
+        get("/items", 1L);
+        get("/items", 1L);
+
+        assertEquals(2, upstreamCalls.size());
+        assertEquals(0, count("miss"));
+    }
+
+    @Test
+    void versionBumpInvalidatesDependentEntriesTest() throws IOException {
+        get("/items/1", 1L);
+        get("/users/1", 1L);
+
+        upstreamVersion = "epoch=1;items=1;bookings=2;users=1";
+        execute(HttpMethod.POST, "/bookings", 1L);
+
+        assertEquals("body-4", body(get("/items/1", 1L)));
+        assertEquals("body-2", body(get("/users/1", 1L)));
+        assertEquals(1, count("stale"));
+        assertEquals(1, count("hit"));
+    }
+
+    @Test
+    void epochChangeInvalidatesAllEntriesTest() throws IOException {
+        get("/users/1", 1L);
+
+        upstreamVersion = "epoch=2;users=1";
+        execute(HttpMethod.GET, "/items", 1L);
+
+        assertEquals("body-3", body(get("/users/1", 1L)));
+        assertEquals(1, count("stale"));
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithNotModifiedTest() throws IOException {
+        get("/users/1", 1L);
+
+        var request = request(HttpMethod.GET, "/users/1", 1L);
+        request.getHeaders().setIfNoneMatch("\"v1\"");
+        var response = interceptor.intercept(request, new byte[0], execution());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(1, upstreamCalls.size());
+    }
+
+    private ClientHttpResponse get(String path, Long userId) throws IOException {
+        return execute(HttpMethod.GET, path, userId);
+    }
+
+    private ClientHttpResponse execute(HttpMethod method, String path, Long userId) throws IOException {
+        return interceptor.intercept(request(method, path, userId), new byte[0], execution());
+    }
+
+    private static MockClientHttpRequest request(HttpMethod method, String path, Long userId) {
+        var request = new MockClientHttpRequest(method, URI.create("http://localhost:9090" + path));
+        request.getHeaders().set(ResponseCacheInterceptor.USER_ID_HEADER, String.valueOf(userId));
+        return request;
+    }
+
+    private ClientHttpRequestExecution execution() {
+        return (request, body) -> {
+            upstreamCalls.add(request.getMethod() + " " + request.getURI().getPath());
+            var response = new MockClientHttpResponse(("body-" + ++upstreamBody).getBytes(StandardCharsets.UTF_8),
+                    HttpStatus.OK);
+            response.getHeaders().set(DATA_VERSION_HEADER, upstreamVersion);
+            response.getHeaders().set(HttpHeaders.ETAG, "\"v1\"");
+            return response;
+        };
+    }
+
+    private static String body(ClientHttpResponse response) throws IOException {
+        return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("gateway.response.cache.requests").tag("result", result).counter().count();
+    }
+}
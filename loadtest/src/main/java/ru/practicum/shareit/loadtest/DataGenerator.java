@@ -0,0 +1,104 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DataGenerator {
+
+    static final String[] WORDS = {"Дрель", "Отвертка", "Стремянка", "Перфоратор", "Пила", "Молоток", "Лобзик",
+        "Шуруповерт", "Палатка", "Велосипед", "Самокат", "Удочка", "Гитара", "Проектор", "Фотоаппарат", "Штатив"};
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final Random random;
+
+    public DataSet generate(LoadTestOptions options) {
+        var now = LocalDateTime.now();
+
+        var users = saveAll(userRepository, options.getUsers(),
+                i -> new User(null, "user" + i, "user" + i + "@loadtest.ru"));
+        var requests = saveAll(itemRequestRepository, options.getRequests(),
+                i -> new ItemRequest(null, "Нужна " + word().toLowerCase() + " на выходные",
+                        now.minusMinutes(options.getRequests() - i), users.get(random.nextInt(users.size()))));
+        var items = saveAll(itemRepository, options.getItems(), i -> {
+            var name = word();
+            var request = !requests.isEmpty() && i % 10 == 0 ? requests.get(random.nextInt(requests.size())) : null;
+            return new Item(null, name + " " + i, name + " в хорошем состоянии", i % 20 != 0,
+                    users.get(DataSet.skewed(random, users.size())), request);
+        });
+        var cursors = new HashMap<Long, LocalDateTime>();
+        var bookings = saveAll(bookingRepository, options.getBookings(), i -> {
+            var item = items.get(DataSet.skewed(random, items.size()));
+            var start = cursors.getOrDefault(item.getId(), now.minusHours(24 * 300 - random.nextInt(24 * 30)))
+                    .plusHours(random.nextInt(72));
+            var status = start.isBefore(now)
+                    ? (i % 10 == 0 ? Status.REJECTED : Status.APPROVED)
+                    : (i % 2 == 0 ? Status.WAITING : Status.APPROVED);
+            var end = start.plusDays(1 + random.nextInt(3));
+            cursors.put(item.getId(), end);
+            return new Booking(null, start, end, item, otherUser(users, item.getOwner()), status);
+        });
+        var pastBookings = bookings.stream()
+                .filter(booking -> booking.getEnd().isBefore(now) && booking.getStatus() == Status.APPROVED)
+                .toArray(Booking[]::new);
+        var comments = saveAll(commentRepository, pastBookings.length == 0 ? 0 : options.getComments(), i -> {
+            var booking = pastBookings[random.nextInt(pastBookings.length)];
+            return new Comment(null, "Все отлично", booking.getItem(), booking.getBooker(), booking.getEnd());
+        });
+        log.info("Сгенерировано пользователей: {}, запросов: {}, вещей: {}, бронирований: {}, комментариев: {}",
+                users.size(), requests.size(), items.size(), bookings.size(), comments.size());
+
+        return new DataSet(
+                users.stream().mapToLong(User::getId).toArray(),
+                items.stream().mapToLong(Item::getId).toArray(),
+                items.stream().mapToLong(item -> item.getOwner().getId()).toArray(),
+                requests.stream().mapToLong(ItemRequest::getId).toArray());
+    }
+
+    private User otherUser(List<User> users, User owner) {
+        var user = users.get(random.nextInt(users.size()));
+        return user.getId().equals(owner.getId()) ? users.get((users.indexOf(user) + 1) % users.size()) : user;
+    }
+
+    private String word() {
+        return WORDS[DataSet.skewed(random, WORDS.length)];
+    }
+
+    private <T> List<T> saveAll(JpaRepository<T, Long> repository, int count, IntFunction<T> factory) {
+        List<T> saved = new ArrayList<>(count);
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            chunk.add(factory.apply(i));
+            if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+                saved.addAll(repository.saveAll(chunk));
+                chunk.clear();
+            }
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Random;
+
+@Getter
+@RequiredArgsConstructor
+public class DataSet {
+
+    private final long[] userIds;
+    private final long[] itemIds;
+    private final long[] itemOwnerIds;
+    private final long[] requestIds;
+
+    public long randomUser(Random random) {
+        return userIds[random.nextInt(userIds.length)];
+    }
+
+    public long activeUser(Random random) {
+        return userIds[skewed(random, userIds.length)];
+    }
+
+    public int hotItem(Random random) {
+        return skewed(random, itemIds.length);
+    }
+
+    public long itemId(int index) {
+        return itemIds[index];
+    }
+
+    public long itemOwnerId(int index) {
+        return itemOwnerIds[index];
+    }
+
+    public long randomRequest(Random random) {
+        return requestIds[random.nextInt(requestIds.length)];
+    }
+
+    static int skewed(Random random, int size) {
+        return (int) (Math.pow(random.nextDouble(), 3) * size);
+    }
+}
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public enum Endpoint {
+    ITEM("item", 30) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            var item = data.hotItem(random);
+            var userId = random.nextInt(4) == 0 ? data.itemOwnerId(item) : data.randomUser(random);
+            return get(gateway, "/items/" + data.itemId(item), userId);
+        }
+    },
+    ITEM_SEARCH("item-search", 15) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            var text = DataGenerator.WORDS[DataSet.skewed(random, DataGenerator.WORDS.length)].toLowerCase();
+            return get(gateway, "/items/search?from=0&size=20&text=" + URLEncoder.encode(text, StandardCharsets.UTF_8),
+                    data.randomUser(random));
+        }
+    },
+    OWNER_ITEMS("owner-items", 10) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            return get(gateway, "/items?from=0&size=20", data.itemOwnerId(data.hotItem(random)));
+        }
+    },
+    BOOKINGS("bookings", 10) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            return get(gateway, "/bookings?from=0&size=20&state=" + state(random), data.activeUser(random));
+        }
+    },
+    OWNER_BOOKINGS("owner-bookings", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            return get(gateway, "/bookings/owner?from=0&size=20&state=" + state(random),
+                    data.itemOwnerId(data.hotItem(random)));
+        }
+    },
+    REQUESTS("requests", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            return get(gateway, "/requests", data.activeUser(random));
+        }
+    },
+    ALL_REQUESTS("all-requests", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            return get(gateway, "/requests/all?from=0&size=20", data.randomUser(random));
+        }
+    },
+    REQUEST("request", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            return get(gateway, "/requests/" + data.randomRequest(random), data.randomUser(random));
+        }
+    },
+    USER("user", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            var userId = data.randomUser(random);
+            return get(gateway, "/users/" + userId, userId);
+        }
+    },
+    CREATE_BOOKING("create-booking", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            var item = data.hotItem(random);
+            var booker = data.randomUser(random);
+            var start = BOOKINGS_FROM.plusDays(2 * BOOKING_SLOTS.getAndIncrement());
+            var body = String.format("{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}",
+                    data.itemId(item), start, start.plusDays(1));
+            return post(gateway, "/bookings", booker, body);
+        }
+    },
+    UPDATE_ITEM("update-item", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            var item = data.hotItem(random);
+            var body = "{\"description\":\"Обновлено " + random.nextInt(1000) + "\"}";
+            return builder(gateway, "/items/" + data.itemId(item), data.itemOwnerId(item))
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    CREATE_REQUEST("create-request", 5) {
+        @Override
+        HttpRequest.Builder request(URI gateway, DataSet data, Random random) {
+            var text = DataGenerator.WORDS[random.nextInt(DataGenerator.WORDS.length)].toLowerCase();
+            return post(gateway, "/requests", data.randomUser(random), "{\"description\":\"Нужна " + text + "\"}");
+        }
+    };
+
+    private static final String[] STATES = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final LocalDateTime BOOKINGS_FROM = LocalDateTime.now().plusYears(2).truncatedTo(ChronoUnit.DAYS);
+    private static final AtomicLong BOOKING_SLOTS = new AtomicLong();
+
+    private final String key;
+    private final int defaultWeight;
+
+    Endpoint(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract HttpRequest.Builder request(URI gateway, DataSet data, Random random);
+
+    public HttpRequest build(URI gateway, DataSet data, Random random) {
+        return request(gateway, data, random).build();
+    }
+
+    public static Endpoint of(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Неизвестный эндпоинт: " + key));
+    }
+
+    private static String state(Random random) {
+        return STATES[random.nextInt(STATES.length)];
+    }
+
+    private static HttpRequest.Builder get(URI gateway, String path, long userId) {
+        return builder(gateway, path, userId).GET();
+    }
+
+    private static HttpRequest.Builder post(URI gateway, String path, long userId, String body) {
+        return builder(gateway, path, userId).POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder builder(URI gateway, String path, long userId) {
+        return HttpRequest.newBuilder(gateway.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("X-Sharer-User-Id", String.valueOf(userId));
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+@Getter
+public enum GatewayMode {
+    SERVLET("servlet", false, List.of()),
+    SERVLET_VT("servlet-vt", false, List.of("--shareit.virtual-threads.enabled=true")),
+    REACTIVE("reactive", true, List.of());
+
+    private final String key;
+    private final boolean reactive;
+    private final List<String> arguments;
+
+    GatewayMode(String key, boolean reactive, List<String> arguments) {
+        this.key = key;
+        this.reactive = reactive;
+        this.arguments = arguments;
+    }
+
+    public Path jar(LoadTestOptions options) {
+        return reactive ? options.getReactiveGatewayJar() : options.getGatewayJar();
+    }
+
+    public static GatewayMode of(String key) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.key.equals(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Неизвестный режим шлюза: " + key));
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class GatewayProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    @Getter
+    private final URI uri;
+    @Getter
+    private final Path logFile;
+
+    private GatewayProcess(Process process, URI uri, Path logFile) {
+        this.process = process;
+        this.uri = uri;
+        this.logFile = logFile;
+    }
+
+    public static GatewayProcess start(GatewayMode mode, LoadTestOptions options, int serverPort, HttpClient client)
+            throws IOException, InterruptedException {
+        var jar = mode.jar(options);
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Не найден jar шлюза " + jar.toAbsolutePath()
+                    + ", соберите проект командой mvn package");
+        }
+        var port = freePort();
+        var logFile = Files.createTempFile("shareit-gateway-" + mode.getKey() + "-", ".log");
+        List<String> command = new ArrayList<>(List.of(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-jar", jar.toString(),
+                "--server.port=" + port,
+                "--shareit-server.url=http://localhost:" + serverPort,
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN"));
+        command.addAll(mode.getArguments());
+
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        var gateway = new GatewayProcess(process, URI.create("http://localhost:" + port), logFile);
+        gateway.awaitReady(client);
+        log.info("Шлюз {} запущен на порту {}, лог: {}", mode.getKey(), port, logFile);
+        return gateway;
+    }
+
+    private void awaitReady(HttpClient client) throws InterruptedException {
+        var health = HttpRequest.newBuilder(uri.resolve("/actuator/health")).GET().build();
+        var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Шлюз завершился при запуске, см. " + logFile);
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Шлюз еще не готов: {}", e.getMessage());
+            }
+            Thread.sleep(500);
+        }
+        close();
+        throw new IllegalStateException("Шлюз не запустился за " + STARTUP_TIMEOUT.toSeconds() + " с, см. " + logFile);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private int clientErrors;
+    private int serverErrors;
+    private int failures;
+    private int dropped;
+
+    public synchronized void record(long latencyNanos, int status) {
+        add(latencyNanos);
+        if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        }
+    }
+
+    public synchronized void fail(long latencyNanos) {
+        record(latencyNanos, 0);
+        failures++;
+    }
+
+    public synchronized void drop() {
+        dropped++;
+    }
+
+    public synchronized void merge(Snapshot snapshot) {
+        for (long latency : snapshot.sorted) {
+            add(latency);
+        }
+        clientErrors += snapshot.clientErrors;
+        serverErrors += snapshot.serverErrors;
+        failures += snapshot.failures;
+        dropped += snapshot.dropped;
+    }
+
+    public synchronized Snapshot snapshot() {
+        var sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, clientErrors, serverErrors, failures, dropped);
+    }
+
+    private void add(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    public static class Snapshot {
+
+        private final long[] sorted;
+        private final int clientErrors;
+        private final int serverErrors;
+        private final int failures;
+        private final int dropped;
+
+        Snapshot(long[] sorted, int clientErrors, int serverErrors, int failures, int dropped) {
+            this.sorted = sorted;
+            this.clientErrors = clientErrors;
+            this.serverErrors = serverErrors;
+            this.failures = failures;
+            this.dropped = dropped;
+        }
+
+        public int count() {
+            return sorted.length;
+        }
+
+        public int clientErrors() {
+            return clientErrors;
+        }
+
+        public int serverErrors() {
+            return serverErrors;
+        }
+
+        public int failures() {
+            return failures;
+        }
+
+        public int dropped() {
+            return dropped;
+        }
+
+        public double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            var index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
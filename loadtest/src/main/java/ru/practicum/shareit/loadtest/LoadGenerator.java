@@ -0,0 +1,98 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+public class LoadGenerator {
+
+    private final HttpClient client;
+    private final DataSet data;
+    private final Random random;
+    private final int rps;
+    private final int maxInFlight;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private final int totalWeight;
+
+    public LoadGenerator(HttpClient client, DataSet data, LoadTestOptions options) {
+        this.client = client;
+        this.data = data;
+        this.random = new Random(options.getSeed());
+        this.rps = options.getRps();
+        this.maxInFlight = options.getMaxInFlight();
+        var total = 0;
+        for (Map.Entry<Endpoint, Integer> entry : options.getMix().entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                endpoints.add(entry.getKey());
+                cumulativeWeights.add(total);
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("В смеси нагрузки нет ни одного эндпоинта с положительным весом");
+        }
+        this.totalWeight = total;
+    }
+
+    public Map<Endpoint, LatencyRecorder> run(URI gateway, Duration duration) throws InterruptedException {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        endpoints.forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+        var inFlight = new Semaphore(maxInFlight);
+        var periodNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        var total = duration.toSeconds() * rps;
+        var start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            var intendedStart = start + i * periodNanos;
+            var delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            var endpoint = nextEndpoint();
+            var recorder = recorders.get(endpoint);
+            if (!inFlight.tryAcquire()) {
+                recorder.drop();
+                continue;
+            }
+            client.sendAsync(endpoint.build(gateway, data, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        var latency = System.nanoTime() - intendedStart;
+                        if (error != null) {
+                            recorder.fail(latency);
+                        } else {
+                            recorder.record(latency, response.statusCode());
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            log.warn("Не все запросы завершились за отведенное время");
+        }
+        return recorders;
+    }
+
+    private Endpoint nextEndpoint() {
+        var value = random.nextInt(totalWeight);
+        for (int i = 0; i < endpoints.size(); i++) {
+            if (value < cumulativeWeights.get(i)) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+}
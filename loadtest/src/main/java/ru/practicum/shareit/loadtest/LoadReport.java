@@ -0,0 +1,37 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LoadReport {
+
+    private static final String ROW = "%-16s %8s %8s %8s %8s %8s %10s %10s %10s %10s%n";
+
+    private LoadReport() {
+    }
+
+    public static void print(PrintStream out, GatewayMode mode, Duration duration,
+                             Map<Endpoint, LatencyRecorder> recorders) {
+        out.printf(Locale.ROOT, "%nРежим шлюза: %s, длительность: %d с%n", mode.getKey(), duration.toSeconds());
+        out.printf(Locale.ROOT, ROW, "endpoint", "count", "4xx", "5xx", "failed", "dropped",
+                "rps", "p50 ms", "p99 ms", "p999 ms");
+        var all = new LatencyRecorder();
+        recorders.forEach((endpoint, recorder) -> {
+            var snapshot = recorder.snapshot();
+            row(out, endpoint.getKey(), snapshot, duration);
+            all.merge(snapshot);
+        });
+        row(out, "total", all.snapshot(), duration);
+    }
+
+    private static void row(PrintStream out, String name, LatencyRecorder.Snapshot snapshot, Duration duration) {
+        out.printf(Locale.ROOT, ROW, name, snapshot.count(), snapshot.clientErrors(), snapshot.serverErrors(),
+                snapshot.failures(), snapshot.dropped(),
+                String.format(Locale.ROOT, "%.1f", (double) snapshot.count() / duration.toSeconds()),
+                String.format(Locale.ROOT, "%.2f", snapshot.percentileMillis(50)),
+                String.format(Locale.ROOT, "%.2f", snapshot.percentileMillis(99)),
+                String.format(Locale.ROOT, "%.2f", snapshot.percentileMillis(99.9)));
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Getter
+public class LoadTestOptions {
+
+    private final int users;
+    private final int items;
+    private final int requests;
+    private final int bookings;
+    private final int comments;
+    private final int rps;
+    private final int maxInFlight;
+    private final Duration warmup;
+    private final Duration duration;
+    private final List<GatewayMode> modes;
+    private final boolean serverVirtualThreads;
+    private final String searchBackend;
+    private final Path gatewayJar;
+    private final Path reactiveGatewayJar;
+    private final Map<Endpoint, Integer> mix;
+    private final long seed;
+
+    private LoadTestOptions(Map<String, String> values) {
+        users = Integer.parseInt(values.getOrDefault("users", "1000"));
+        items = Integer.parseInt(values.getOrDefault("items", "10000"));
+        requests = Integer.parseInt(values.getOrDefault("requests", "2000"));
+        bookings = Integer.parseInt(values.getOrDefault("bookings", "50000"));
+        comments = Integer.parseInt(values.getOrDefault("comments", "10000"));
+        rps = Integer.parseInt(values.getOrDefault("rps", "200"));
+        maxInFlight = Integer.parseInt(values.getOrDefault("max-in-flight", "1000"));
+        warmup = Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10")));
+        duration = Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60")));
+        modes = Arrays.stream(values.getOrDefault("modes", "servlet").split(","))
+                .map(GatewayMode::of)
+                .collect(Collectors.toList());
+        serverVirtualThreads = Boolean.parseBoolean(values.getOrDefault("server-virtual-threads", "false"));
+        searchBackend = values.getOrDefault("search-backend", "like");
+        gatewayJar = Path.of(values.getOrDefault("gateway-jar",
+                "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar"));
+        reactiveGatewayJar = Path.of(values.getOrDefault("reactive-gateway-jar",
+                "gateway-reactive/target/shareit-gateway-reactive-0.0.1-SNAPSHOT.jar"));
+        mix = parseMix(values.get("mix"));
+        if (requests == 0) {
+            mix.put(Endpoint.REQUEST, 0);
+        }
+        seed = Long.parseLong(values.getOrDefault("seed", "42"));
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Ожидался аргумент вида --name=value: " + arg);
+            }
+            var separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            weights.put(endpoint, endpoint.getDefaultWeight());
+        }
+        if (mix == null || mix.isBlank()) {
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            var parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Ожидался вес вида endpoint:weight: " + entry);
+            }
+            weights.put(Endpoint.of(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingAvailabilityIndex;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InMemoryItemSearchIndex;
+import ru.practicum.shareit.request.matching.RequestItemMatcher;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+
+@Slf4j
+public class ShareItLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.parse(args);
+
+        var context = new SpringApplicationBuilder(ShareItServer.class)
+                .bannerMode(Banner.Mode.OFF)
+                .profiles("ci")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--shareit.search.backend=" + options.getSearchBackend(),
+                        "--shareit.virtual-threads.enabled=" + options.isServerVirtualThreads(),
+                        "--logging.level.root=WARN",
+                        "--logging.level.ru.practicum.shareit.loadtest=INFO");
+        try (context) {
+            var data = new DataGenerator(
+                    context.getBean(UserRepository.class),
+                    context.getBean(ItemRequestRepository.class),
+                    context.getBean(ItemRepository.class),
+                    context.getBean(BookingRepository.class),
+                    context.getBean(CommentRepository.class),
+                    new Random(options.getSeed())).generate(options);
+            context.getBeanProvider(InMemoryItemSearchIndex.class).ifAvailable(InMemoryItemSearchIndex::rebuild);
+            context.getBeanProvider(RequestItemMatcher.class).ifAvailable(RequestItemMatcher::rebuild);
+            context.getBean(BookingAvailabilityIndex.class).load();
+
+            var out = new PrintStream(new FileOutputStream(FileDescriptor.out), true, StandardCharsets.UTF_8);
+            var serverPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(2))
+                    .build();
+
+            for (GatewayMode mode : options.getModes()) {
+                try (var gateway = GatewayProcess.start(mode, options, serverPort, client)) {
+                    var generator = new LoadGenerator(client, data, options);
+                    log.info("Прогрев {} с при {} запросов/с", options.getWarmup().toSeconds(), options.getRps());
+                    generator.run(gateway.getUri(), options.getWarmup());
+                    log.info("Измерение {} с при {} запросов/с", options.getDuration().toSeconds(), options.getRps());
+                    var results = generator.run(gateway.getUri(), options.getDuration());
+                    LoadReport.print(out, mode, options.getDuration(), results);
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package ru.practicum.shareit.booking.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.model.BookingDto;
 import ru.practicum.shareit.booking.model.BookingDtoSimple;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.utilities.Cursor;
 
 import java.util.Collection;
 
@@ -26,19 +28,27 @@ public class BookingController {
     }
 
     @GetMapping
-    public Collection<BookingDto> findAll(@RequestHeader("X-Sharer-User-Id") long userId,
-                                          @RequestParam(defaultValue = "ALL") String state,
-                                          @RequestParam(defaultValue = "0") int from,
-                                          @RequestParam(defaultValue = "20") int size) {
-        return bookingService.findAll(userId, state, from, size);
+    public ResponseEntity<Collection<BookingDto>> findAll(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                          @RequestParam(defaultValue = "ALL") String state,
+                                                          @RequestParam(defaultValue = "0") int from,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          @RequestParam(required = false) String after) {
+        var bookings = after == null
+                ? bookingService.findAll(userId, state, from, size)
+                : bookingService.findAllAfter(userId, state, Cursor.decode(after), size);
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping("/owner")
-    public Collection<BookingDto> findAllByOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                 @RequestParam(defaultValue = "ALL") String state,
-                                                 @RequestParam(defaultValue = "0") int from,
-                                                 @RequestParam(defaultValue = "20") int size) {
-        return bookingService.findAllByItemOwnerId(userId, state, from, size);
+    public ResponseEntity<Collection<BookingDto>> findAllByOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                 @RequestParam(defaultValue = "ALL") String state,
+                                                                 @RequestParam(defaultValue = "0") int from,
+                                                                 @RequestParam(defaultValue = "20") int size,
+                                                                 @RequestParam(required = false) String after) {
+        var bookings = after == null
+                ? bookingService.findAllByItemOwnerId(userId, state, from, size)
+                : bookingService.findAllByItemOwnerIdAfter(userId, state, Cursor.decode(after), size);
+        return withNextCursor(bookings, size);
     }
 
     @PatchMapping("/{bookingId}")
@@ -58,4 +68,13 @@ public class BookingController {
     public void deleteById(@PathVariable long id) {
         bookingService.deleteById(id);
     }
+
+    private ResponseEntity<Collection<BookingDto>> withNextCursor(Collection<BookingDto> bookings, int size) {
+        var response = ResponseEntity.ok();
+        if (bookings.size() == size) {
+            var last = bookings.stream().reduce((first, second) -> second).orElseThrow();
+            response.header(Cursor.NEXT_CURSOR_HEADER, new Cursor(last.getStart(), last.getId()).encode());
+        }
+        return response.body(bookings);
+    }
 }
@@ -45,6 +45,7 @@ public class BookingMapper {
 
     public static BookingDtoForItem toBookingDtoForItem(Booking booking) {
         return new BookingDtoForItem(booking.getId(),
-                booking.getBooker().getId());
+                booking.getBooker().getId(),
+                booking.getItem().getId());
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -12,4 +13,12 @@ public class BookingDtoForItem {
     private Long id;
 
     private Long bookerId;
+
+    @JsonIgnore
+    private Long itemId;
+
+    public BookingDtoForItem(Long id, Long bookerId) {
+        this.id = id;
+        this.bookerId = bookerId;
+    }
 }
@@ -5,21 +5,44 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDtoForItem;
+import ru.practicum.shareit.booking.model.BookingDtoSimple;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByBookerId(long userId, Pageable pageable);
+    String BEFORE_CURSOR = "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) ";
+
+    String CURSOR_ORDER = "order by b.start desc, b.id desc";
 
-    List<Booking> findBookingsByItemIdAndEndIsBeforeOrderByEndDesc(long id, LocalDateTime time);
+    List<Booking> findByBookerId(long userId, Pageable pageable);
 
-    List<Booking> findBookingsByItemIdAndStartIsAfterOrderByStartDesc(long id, LocalDateTime time);
+    @Query("select new ru.practicum.shareit.booking.model.BookingDtoForItem(b.id, b.booker.id, b.item.id) " +
+            "from Booking b " +
+            "where b.item.id in ?1 " +
+            "and b.end = (select max(lb.end) from Booking lb where lb.item.id = b.item.id and lb.end < ?2) " +
+            "order by b.id")
+    List<BookingDtoForItem> findLastBookingsByItemIds(Collection<Long> ids, LocalDateTime time);
+
+    @Query("select new ru.practicum.shareit.booking.model.BookingDtoForItem(b.id, b.booker.id, b.item.id) " +
+            "from Booking b " +
+            "where b.item.id in ?1 " +
+            "and b.start = (select min(nb.start) from Booking nb where nb.item.id = b.item.id and nb.start > ?2) " +
+            "order by b.id")
+    List<BookingDtoForItem> findNextBookingsByItemIds(Collection<Long> ids, LocalDateTime time);
+
+    @Query("select new ru.practicum.shareit.booking.model.BookingDtoSimple(b.id, b.start, b.end, b.item.id) " +
+            "from Booking b " +
+            "where b.status in ?1 " +
+            "and b.end > ?2")
+    List<BookingDtoSimple> findActiveBookingIntervals(Collection<Status> statuses, LocalDateTime time);
 
     List<Booking> findBookingsByBookerIdAndStatus(long userId, Status status, Pageable pageable);
 
-    List<Booking> findBookingsByItemOwnerId(long id, Pageable pageable);
+    List<Booking> findBookingsByItemOwnerIdAndStatus(long userId, Status status, Pageable pageable);
 
     @Query("select b " +
             "from Booking b left join User as us on b.booker.id = us.id " +
@@ -28,18 +51,16 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findCurrentBookingsByBookerId(long userId, LocalDateTime time, Pageable pageable);
 
     @Query("select b " +
-            "from Booking b left join Item as i on b.item.id = i.id " +
-            "left join User as us on i.owner.id = us.id " +
-            "where us.id = ?1 " +
+            "from Booking b " +
+            "where b.item.owner.id = ?1 " +
             "and ?2 between b.start and b.end ")
-
     List<Booking> findCurrentBookingsByItemOwnerId(long userId, LocalDateTime time, Pageable pageable);
 
     List<Booking> findBookingsByBookerIdAndEndIsBefore(long userId, LocalDateTime time, Pageable pageable);
 
     List<Booking> findBookingsByItemOwnerIdAndEndIsBefore(long userId, LocalDateTime time, Pageable pageable);
 
-    List<Booking> searchBookingByItemOwnerId(long id, Pageable pageable);
+    List<Booking> findByItemOwnerId(long userId, Pageable pageable);
 
     List<Booking> findByBookerIdAndStartAfter(long userId, LocalDateTime time, Pageable pageable);
 
@@ -47,4 +68,52 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                                                           LocalDateTime time, Status status);
 
     List<Booking> searchBookingByItemOwnerIdAndStartIsAfter(long id, LocalDateTime time, Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findByBookerIdBefore(long userId, LocalDateTime start, long id, Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 and ?4 between b.start and b.end " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findCurrentByBookerIdBefore(long userId, LocalDateTime start, long id, LocalDateTime time,
+                                              Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 and b.end < ?4 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findPastByBookerIdBefore(long userId, LocalDateTime start, long id, LocalDateTime time,
+                                           Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 and b.start > ?4 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findFutureByBookerIdBefore(long userId, LocalDateTime start, long id, LocalDateTime time,
+                                             Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.booker.id = ?1 and b.status = ?4 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findByBookerIdAndStatusBefore(long userId, LocalDateTime start, long id, Status status,
+                                                Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findByItemOwnerIdBefore(long userId, LocalDateTime start, long id, Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 and ?4 between b.start and b.end " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findCurrentByItemOwnerIdBefore(long userId, LocalDateTime start, long id, LocalDateTime time,
+                                                 Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 and b.end < ?4 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findPastByItemOwnerIdBefore(long userId, LocalDateTime start, long id, LocalDateTime time,
+                                              Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 and b.start > ?4 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findFutureByItemOwnerIdBefore(long userId, LocalDateTime start, long id, LocalDateTime time,
+                                                Pageable pageable);
+
+    @Query("select b from Booking b " +
+            "where b.item.owner.id = ?1 and b.status = ?4 " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<Booking> findByItemOwnerIdAndStatusBefore(long userId, LocalDateTime start, long id, Status status,
+                                                   Pageable pageable);
 }
@@ -0,0 +1,194 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDtoSimple;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingAvailabilityIndex {
+
+    static final Set<Status> ACTIVE_STATUSES = Set.of(Status.WAITING, Status.APPROVED);
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, ItemSchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<Long, Slot> slotsByBookingId = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @PostConstruct
+    public void load() {
+        bookingRepository.findActiveBookingIntervals(ACTIVE_STATUSES, LocalDateTime.now())
+                .forEach(this::add);
+    }
+
+    public Optional<Slot> reserve(Long itemId, LocalDateTime start, LocalDateTime end) {
+        var schedule = schedules.computeIfAbsent(itemId, id -> new ItemSchedule());
+        var slot = new Slot(itemId, toEpochMilli(start), toEpochMilli(end), sequence.incrementAndGet());
+
+        synchronized (schedule) {
+            prune(schedule, toEpochMilli(LocalDateTime.now()));
+            if (schedule.overlaps(slot.start, slot.end, null)) {
+                return Optional.empty();
+            }
+            schedule.slots.add(slot);
+        }
+        return Optional.of(slot);
+    }
+
+    public void confirm(Slot slot, Long bookingId) {
+        slot.bookingId = bookingId;
+        slotsByBookingId.put(bookingId, slot);
+    }
+
+    public void release(Slot slot) {
+        var schedule = schedules.get(slot.itemId);
+        if (schedule != null) {
+            synchronized (schedule) {
+                schedule.slots.remove(slot);
+            }
+        }
+        if (slot.bookingId != null) {
+            slotsByBookingId.remove(slot.bookingId, slot);
+        }
+    }
+
+    public boolean update(Booking booking) {
+        var replacement = ACTIVE_STATUSES.contains(booking.getStatus())
+                ? new Slot(booking.getItem().getId(), toEpochMilli(booking.getStart()), toEpochMilli(booking.getEnd()),
+                sequence.incrementAndGet())
+                : null;
+        Boolean replaced;
+        do {
+            replaced = replace(booking.getId(), slotsByBookingId.get(booking.getId()), replacement);
+        } while (replaced == null);
+        return replaced;
+    }
+
+    public void remove(Long bookingId) {
+        var slot = slotsByBookingId.get(bookingId);
+        if (slot != null) {
+            release(slot);
+        }
+    }
+
+    private void add(BookingDtoSimple interval) {
+        var schedule = schedules.computeIfAbsent(interval.getItemId(), id -> new ItemSchedule());
+        var slot = new Slot(interval.getItemId(), toEpochMilli(interval.getStart()), toEpochMilli(interval.getEnd()),
+                sequence.incrementAndGet());
+
+        synchronized (schedule) {
+            if (schedule.overlaps(slot.start, slot.end, null)) {
+                log.warn("Бронирование id={} пересекается с другим активным бронированием вещи id={}",
+                        interval.getId(), interval.getItemId());
+                return;
+            }
+            schedule.slots.add(slot);
+        }
+        confirm(slot, interval.getId());
+    }
+
+    private Boolean replace(Long bookingId, Slot current, Slot replacement) {
+        var itemIds = new TreeSet<Long>();
+        if (current != null) {
+            itemIds.add(current.itemId);
+        }
+        if (replacement != null) {
+            itemIds.add(replacement.itemId);
+        }
+        return locked(itemIds.iterator(), () -> {
+            if (slotsByBookingId.get(bookingId) != current) {
+                return null;
+            }
+            if (replacement != null) {
+                var target = schedules.get(replacement.itemId);
+                if (target.overlaps(replacement.start, replacement.end, current)) {
+                    return false;
+                }
+                target.slots.add(replacement);
+                replacement.bookingId = bookingId;
+                slotsByBookingId.put(bookingId, replacement);
+            } else if (current != null) {
+                slotsByBookingId.remove(bookingId, current);
+            }
+            if (current != null) {
+                schedules.get(current.itemId).slots.remove(current);
+            }
+            return true;
+        });
+    }
+
+    private <T> T locked(Iterator<Long> itemIds, Supplier<T> action) {
+        if (!itemIds.hasNext()) {
+            return action.get();
+        }
+        var schedule = schedules.computeIfAbsent(itemIds.next(), id -> new ItemSchedule());
+        synchronized (schedule) {
+            return locked(itemIds, action);
+        }
+    }
+
+    private void prune(ItemSchedule schedule, long now) {
+        while (!schedule.slots.isEmpty() && schedule.slots.first().end <= now) {
+            var slot = schedule.slots.pollFirst();
+            if (slot.bookingId != null) {
+                slotsByBookingId.remove(slot.bookingId, slot);
+            }
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static final class Slot {
+
+        private final Long itemId;
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private volatile Long bookingId;
+
+        private Slot(Long itemId, long start, long end, long sequence) {
+            this.itemId = itemId;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class ItemSchedule {
+
+        private static final Comparator<Slot> ORDER = Comparator.<Slot>comparingLong(slot -> slot.start)
+                .thenComparingLong(slot -> slot.sequence);
+
+        private final NavigableSet<Slot> slots = new TreeSet<>(ORDER);
+
+        private boolean overlaps(long start, long end, Slot ignored) {
+            var previous = slots.lower(new Slot(null, end, end, Long.MIN_VALUE));
+            if (previous != null && previous == ignored) {
+                previous = slots.lower(previous);
+            }
+            return previous != null && previous.end > start;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.model.BookingDto;
 import ru.practicum.shareit.booking.model.BookingDtoSimple;
+import ru.practicum.shareit.utilities.Cursor;
 
 import java.util.Collection;
 
@@ -18,5 +19,9 @@ public interface BookingService {
 
     Collection<BookingDto> findAllByItemOwnerId(Long userId, String state, int from, int size);
 
+    Collection<BookingDto> findAllAfter(Long userId, String state, Cursor after, int size);
+
+    Collection<BookingDto> findAllByItemOwnerIdAfter(Long userId, String state, Cursor after, int size);
+
     BookingDto approve(Long userId, Long bookingId, Boolean approved);
 }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingDto;
 import ru.practicum.shareit.booking.model.BookingDtoSimple;
 import ru.practicum.shareit.booking.enums.Status;
@@ -15,11 +16,12 @@ import ru.practicum.shareit.exception.EnumStateException;
 import ru.practicum.shareit.exception.ItemTransactionException;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utilities.Cursor;
 
 import javax.validation.ValidationException;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -33,16 +35,14 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
 
     @Override
     public BookingDto save(BookingDtoSimple bookingDtoSimple, Long userId) {
         checkBookingEndTime(bookingDtoSimple.getStart(), bookingDtoSimple.getEnd());
-        checkUserAvailability(userId, userRepository);
-        checkItemAvailability(bookingDtoSimple.getItemId(), itemRepository);
+        var booker = findUser(userId, userRepository);
+        var item = findItem(bookingDtoSimple.getItemId(), itemRepository);
 
-        var item = itemRepository.findById(bookingDtoSimple.getItemId())
-                .orElseThrow(() -> new EntityNotFoundException(format("Вещь с id: %s не найдена.",
-                        bookingDtoSimple.getItemId())));
         if (!item.getAvailable()) {
             throw new ItemTransactionException(format("Вещь с id: %s не доступна.", item.getId()));
         }
@@ -53,20 +53,27 @@ public class BookingServiceImpl implements BookingService {
 
         var booking = fromSimpleDtoToBooking(bookingDtoSimple);
 
-        booking.setBooker(userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Пользователь с id: %s не найден.", userId))));
+        booking.setBooker(booker);
         booking.setItem(item);
         booking.setStatus(Status.WAITING);
 
-        return toBookingDto(bookingRepository.save(booking));
+        var slot = availabilityIndex.reserve(item.getId(), booking.getStart(), booking.getEnd())
+                .orElseThrow(() -> new BookingTransactionException(
+                        format("Вещь с id: %s уже забронирована на указанный период.", item.getId())));
+        try {
+            var savedBooking = bookingRepository.save(booking);
+            availabilityIndex.confirm(slot, savedBooking.getId());
+            return toBookingDto(savedBooking);
+        } catch (RuntimeException e) {
+            availabilityIndex.release(slot);
+            throw e;
+        }
     }
 
     @Override
     public BookingDto update(Long bookingId, BookingDto bookingDto) {
-        checkBookingAvailability(bookingId, bookingRepository);
-
-        var oldBookingDto = toBookingDto(bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Бронирование с id: %s не найдена.", bookingId))));
+        var previous = findBooking(bookingId, bookingRepository);
+        var oldBookingDto = toBookingDto(previous);
 
         if (bookingDto.getStart() != null) {
             oldBookingDto.setStart(bookingDto.getStart());
@@ -83,20 +90,18 @@ public class BookingServiceImpl implements BookingService {
         if (bookingDto.getStatus() != null) {
             oldBookingDto.setStatus(bookingDto.getStatus());
         }
-        return toBookingDto(bookingRepository.save(toBooking(oldBookingDto)));
+        return saveIndexed(toBooking(oldBookingDto), previous);
     }
 
     @Override
     public void deleteById(Long bookingId) {
-        checkBookingAvailability(bookingId, bookingRepository);
-        bookingRepository.deleteById(bookingId);
+        bookingRepository.delete(findBooking(bookingId, bookingRepository));
+        availabilityIndex.remove(bookingId);
     }
 
     @Override
     public BookingDto findById(Long bookingId, Long userId) {
-        checkBookingAvailability(bookingId, bookingRepository);
-        var booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Бронирование с id: %s не найдена.", bookingId)));
+        var booking = findBooking(bookingId, bookingRepository);
 
         if (!booking.getBooker().getId().equals(userId) && !booking.getItem().getOwner().getId().equals(userId)) {
             throw new EntityNotFoundException("Запрос бронирования может быть выполнен только автором бронирования " +
@@ -113,7 +118,7 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException("Переданы некорректные значения from and size.");
         }
         var page = from / size;
-        var pageable = PageRequest.of(page, size, Sort.by("start").descending());
+        var pageable = PageRequest.of(page, size, Sort.by("start", "id").descending());
 
         try {
             switch (Status.valueOf(state)) {
@@ -163,20 +168,16 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException("Переданы некорректные значения from and size");
         }
         var page = from / size;
-        var pageable = PageRequest.of(page, size, Sort.by("start").descending());
+        var pageable = PageRequest.of(page, size, Sort.by("start", "id").descending());
 
-        var result = bookingRepository.searchBookingByItemOwnerId(userId, pageable).stream()
-                .map(BookingMapper::toBookingDto)
-                .collect(Collectors.toList());
+        checkOwnerHasItems(userId);
 
-        if (result.isEmpty()) {
-            throw new EntityNotFoundException(format("У пользователя c id: %s нет вещей.", userId));
-        }
         try {
             switch (Status.valueOf(state)) {
                 case ALL:
-                    result.sort(Comparator.comparing(BookingDto::getStart).reversed());
-                    return result;
+                    return bookingRepository.findByItemOwnerId(userId, pageable).stream()
+                            .map(BookingMapper::toBookingDto)
+                            .collect(Collectors.toList());
                 case CURRENT:
                     return bookingRepository.findCurrentBookingsByItemOwnerId(userId,
                                     LocalDateTime.now(), pageable).stream()
@@ -193,13 +194,15 @@ public class BookingServiceImpl implements BookingService {
                             .map(BookingMapper::toBookingDto)
                             .collect(Collectors.toList());
                 case WAITING:
-                    return bookingRepository.findBookingsByItemOwnerId(userId, pageable).stream()
-                            .filter(booking -> booking.getStatus().equals(Status.WAITING))
-                            .map(BookingMapper::toBookingDto).collect(Collectors.toList());
+                    return bookingRepository.findBookingsByItemOwnerIdAndStatus(userId,
+                                    Status.WAITING, pageable).stream()
+                            .map(BookingMapper::toBookingDto)
+                            .collect(Collectors.toList());
                 case REJECTED:
-                    return bookingRepository.findBookingsByItemOwnerId(userId, pageable).stream()
-                            .filter(booking -> booking.getStatus().equals(Status.REJECTED))
-                            .map(BookingMapper::toBookingDto).collect(Collectors.toList());
+                    return bookingRepository.findBookingsByItemOwnerIdAndStatus(userId,
+                                    Status.REJECTED, pageable).stream()
+                            .map(BookingMapper::toBookingDto)
+                            .collect(Collectors.toList());
                 default:
                     throw new EnumStateException(format("Unknown state: %S", state));
             }
@@ -209,12 +212,87 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public BookingDto approve(Long userId, Long bookingId, Boolean approved) {
+    public Collection<BookingDto> findAllAfter(Long userId, String state, Cursor after, int size) {
+        checkUserAvailability(userId, userRepository);
+
+        if (size <= 0) {
+            throw new ValidationException("Передано некорректное значение size.");
+        }
+        var pageable = PageRequest.of(0, size);
+        var start = after.getTime();
+        var id = after.getId();
+
+        try {
+            switch (Status.valueOf(state)) {
+                case ALL:
+                    return toBookingDtos(bookingRepository.findByBookerIdBefore(userId, start, id, pageable));
+                case CURRENT:
+                    return toBookingDtos(bookingRepository.findCurrentByBookerIdBefore(userId, start, id,
+                            LocalDateTime.now(), pageable));
+                case PAST:
+                    return toBookingDtos(bookingRepository.findPastByBookerIdBefore(userId, start, id,
+                            LocalDateTime.now(), pageable));
+                case FUTURE:
+                    return toBookingDtos(bookingRepository.findFutureByBookerIdBefore(userId, start, id,
+                            LocalDateTime.now(), pageable));
+                case WAITING:
+                    return toBookingDtos(bookingRepository.findByBookerIdAndStatusBefore(userId, start, id,
+                            Status.WAITING, pageable));
+                case REJECTED:
+                    return toBookingDtos(bookingRepository.findByBookerIdAndStatusBefore(userId, start, id,
+                            Status.REJECTED, pageable));
+                default:
+                    throw new EnumStateException(format("Unknown state: %S", state));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new EnumStateException(format("Unknown state: %S", state));
+        }
+    }
+
+    @Override
+    public Collection<BookingDto> findAllByItemOwnerIdAfter(Long userId, String state, Cursor after, int size) {
         checkUserAvailability(userId, userRepository);
-        checkBookingAvailability(bookingId, bookingRepository);
 
-        var bookingDto = toBookingDto(bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Бронирование с id: %s не найдена.", bookingId))));
+        if (size <= 0) {
+            throw new ValidationException("Передано некорректное значение size.");
+        }
+        checkOwnerHasItems(userId);
+
+        var pageable = PageRequest.of(0, size);
+        var start = after.getTime();
+        var id = after.getId();
+
+        try {
+            switch (Status.valueOf(state)) {
+                case ALL:
+                    return toBookingDtos(bookingRepository.findByItemOwnerIdBefore(userId, start, id, pageable));
+                case CURRENT:
+                    return toBookingDtos(bookingRepository.findCurrentByItemOwnerIdBefore(userId, start, id,
+                            LocalDateTime.now(), pageable));
+                case PAST:
+                    return toBookingDtos(bookingRepository.findPastByItemOwnerIdBefore(userId, start, id,
+                            LocalDateTime.now(), pageable));
+                case FUTURE:
+                    return toBookingDtos(bookingRepository.findFutureByItemOwnerIdBefore(userId, start, id,
+                            LocalDateTime.now(), pageable));
+                case WAITING:
+                    return toBookingDtos(bookingRepository.findByItemOwnerIdAndStatusBefore(userId, start, id,
+                            Status.WAITING, pageable));
+                case REJECTED:
+                    return toBookingDtos(bookingRepository.findByItemOwnerIdAndStatusBefore(userId, start, id,
+                            Status.REJECTED, pageable));
+                default:
+                    throw new EnumStateException(format("Unknown state: %S", state));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new EnumStateException(format("Unknown state: %S", state));
+        }
+    }
+
+    @Override
+    public BookingDto approve(Long userId, Long bookingId, Boolean approved) {
+        var previous = findBooking(bookingId, bookingRepository);
+        var bookingDto = toBookingDto(previous);
 
         if (!bookingDto.getItem().getOwner().getId().equals(userId)) {
             throw new EntityNotFoundException("Подтвердить бронирование может только владелец вещи.");
@@ -226,11 +304,35 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingTransactionException("Не указан статус бронирования.");
         } else if (approved) {
             bookingDto.setStatus(Status.APPROVED);
-            return toBookingDto(bookingRepository.save(toBooking(bookingDto)));
         } else {
             bookingDto.setStatus(Status.REJECTED);
-            return toBookingDto(bookingRepository.save(toBooking(bookingDto)));
         }
+        return saveIndexed(toBooking(bookingDto), previous);
+    }
+
+    private BookingDto saveIndexed(Booking booking, Booking previous) {
+        if (!availabilityIndex.update(booking)) {
+            throw new BookingTransactionException(
+                    format("Вещь с id: %s уже забронирована на указанный период.", booking.getItem().getId()));
+        }
+        try {
+            return toBookingDto(bookingRepository.save(booking));
+        } catch (RuntimeException e) {
+            availabilityIndex.update(previous);
+            throw e;
+        }
+    }
+
+    private void checkOwnerHasItems(Long userId) {
+        if (!itemRepository.existsByOwnerId(userId)) {
+            throw new EntityNotFoundException(format("У пользователя c id: %s нет вещей.", userId));
+        }
+    }
+
+    private List<BookingDto> toBookingDtos(List<Booking> bookings) {
+        return bookings.stream()
+                .map(BookingMapper::toBookingDto)
+                .collect(Collectors.toList());
     }
 
     private void checkBookingEndTime(LocalDateTime start, LocalDateTime end) {
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.budget;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+@Getter
+public final class QueryBudget {
+
+    private static final ThreadLocal<QueryBudget> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final String endpoint;
+    private final int budget;
+    private final int repeatLimit;
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int count;
+    private String repeated;
+    private int repeats;
+    private boolean reported;
+
+    private QueryBudget(String endpoint, int budget, int repeatLimit) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+        this.repeatLimit = repeatLimit;
+    }
+
+    public static QueryBudget start(String endpoint, int budget, int repeatLimit) {
+        var queryBudget = new QueryBudget(endpoint, budget, repeatLimit);
+        CURRENT.set(queryBudget);
+        return queryBudget;
+    }
+
+    public static QueryBudget current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    public void record(String sql) {
+        count++;
+        var statement = normalize(sql);
+        var executions = statements.merge(statement, 1, Integer::sum);
+        if (executions > repeats) {
+            repeats = executions;
+            repeated = statement;
+        }
+    }
+
+    public boolean isExceeded() {
+        return count > budget;
+    }
+
+    public boolean isRepeated() {
+        return repeats > repeatLimit;
+    }
+
+    public Optional<String> violation() {
+        if (isRepeated()) {
+            return Optional.of(format("Эндпоинт %s выполнил один и тот же SQL-запрос %s раз при лимите %s, "
+                    + "вероятно N+1: %s", endpoint, repeats, repeatLimit, repeated));
+        }
+        if (isExceeded()) {
+            return Optional.of(format("Эндпоинт %s выполнил %s SQL-запросов при бюджете %s.",
+                    endpoint, count, budget));
+        }
+        return Optional.empty();
+    }
+
+    boolean markReported() {
+        var first = !reported;
+        reported = true;
+        return first;
+    }
+
+    static String normalize(String sql) {
+        var statement = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        statement = STRING_LITERAL.matcher(statement).replaceAll("?");
+        statement = NUMBER_LITERAL.matcher(statement).replaceAll("?");
+        return IN_LIST.matcher(statement).replaceAll("(?)");
+    }
+}
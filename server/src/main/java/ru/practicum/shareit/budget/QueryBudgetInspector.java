@@ -0,0 +1,27 @@
+package ru.practicum.shareit.budget;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import ru.practicum.shareit.exception.QueryBudgetExceededException;
+
+@RequiredArgsConstructor
+public class QueryBudgetInspector implements StatementInspector {
+
+    private final QueryBudgetProperties properties;
+
+    @Override
+    public String inspect(String sql) {
+        var budget = QueryBudget.current();
+        if (budget == null) {
+            return sql;
+        }
+        budget.record(sql);
+        if (properties.getMode() == QueryBudgetProperties.Mode.FAIL) {
+            var violation = budget.violation();
+            if (violation.isPresent() && budget.markReported()) {
+                throw new QueryBudgetExceededException(violation.get());
+            }
+        }
+        return sql;
+    }
+}
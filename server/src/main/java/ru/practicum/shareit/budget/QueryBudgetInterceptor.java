@@ -0,0 +1,36 @@
+package ru.practicum.shareit.budget;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Objects;
+
+@Slf4j
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final QueryBudgetProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var endpoint = Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                request.getRequestURI());
+        QueryBudget.start(endpoint, properties.budgetFor(endpoint), properties.getRepeatLimit());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        var budget = QueryBudget.current();
+        if (budget == null) {
+            return;
+        }
+        budget.stop();
+        budget.violation().ifPresent(violation -> log.warn("{} {}", request.getMethod(), violation));
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.budget;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+
+    private Mode mode = Mode.LOG;
+
+    private int defaultBudget = 10;
+
+    private int repeatLimit = 3;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+
+    public enum Mode {
+        LOG,
+        FAIL
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Class<?> type, Object id) {
+        entityManagerFactory.getCache().evict(type, id);
+    }
+
+    public void evictAll(Class<?> type) {
+        entityManagerFactory.getCache().evict(type);
+    }
+}
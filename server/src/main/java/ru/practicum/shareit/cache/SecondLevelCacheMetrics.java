@@ -0,0 +1,65 @@
+package ru.practicum.shareit.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    static final String HIT_RATIO_METRIC = "shareit.cache.hit.ratio";
+    static final String REQUESTS_METRIC = "shareit.cache.requests";
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final Collection<String> regions;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regions) {
+            Gauge.builder(HIT_RATIO_METRIC, this, metrics -> metrics.hitRatio(region))
+                    .description("Second-level cache hit ratio since start")
+                    .tag("region", region)
+                    .register(registry);
+            requests(registry, region, "hit", CacheRegionStatistics::getHitCount);
+            requests(registry, region, "miss", CacheRegionStatistics::getMissCount);
+        }
+    }
+
+    double hitRatio(String region) {
+        var statistics = statistics(region);
+        if (statistics == null) {
+            return Double.NaN;
+        }
+        var requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) statistics.getHitCount() / requests;
+    }
+
+    private void requests(MeterRegistry registry, String region, String result,
+                          ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder(REQUESTS_METRIC, this, metrics -> {
+                    var statistics = metrics.statistics(region);
+                    return statistics == null ? 0 : count.applyAsLong(statistics);
+                })
+                .description("Second-level cache lookups")
+                .tags("region", region, "result", result)
+                .register(registry);
+    }
+
+    private CacheRegionStatistics statistics(String region) {
+        var factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return null;
+        }
+        var statistics = factory.unwrap(SessionFactory.class).getStatistics();
+        return statistics.isStatisticsEnabled() ? statistics.getDomainDataRegionStatistics(region) : null;
+    }
+}
@@ -1,9 +0,0 @@
-package ru.practicum.shareit.exception;
-
-public class EnumStateException extends RuntimeException {
-
-    public EnumStateException(String message) {
-
-        super(message);
-    }
-}
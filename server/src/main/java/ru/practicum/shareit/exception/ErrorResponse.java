@@ -1,17 +0,0 @@
-package ru.practicum.shareit.exception;
-
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-public class ErrorResponse {
-
-    private String message;
-
-    public ErrorResponse(String message) {
-        this.message = message;
-    }
-}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.exception;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+
+        super(message);
+    }
+}
@@ -1,19 +1,47 @@
 package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
     @Query("select i from Item i " +
-            "where upper(i.name) like upper(concat('%', ?1, '%')) " +
-            "or upper(i.description) like upper(concat('%', ?1, '%'))")
+            "where i.available = true " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "order by i.id")
     List<Item> search(String text, Pageable pageable);
 
-    List<Item> findAllByItemRequestId(Long itemRequestId);
+    @Query(value = "select * from items i " +
+            "where i.available " +
+            "and (i.name ilike concat('%', ?1, '%') or i.description ilike concat('%', ?1, '%')) " +
+            "order by greatest(word_similarity(?1, i.name), word_similarity(?1, i.description)) desc, i.id",
+            nativeQuery = true)
+    List<Item> searchByTrigram(String text, Pageable pageable);
 
+    @Query("select new ru.practicum.shareit.item.model.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.itemRequest.id) " +
+            "from Item i " +
+            "where i.itemRequest.id in ?1 " +
+            "order by i.id")
+    List<ItemDto> findAllByItemRequestIdIn(Collection<Long> itemRequestIds);
+
+    @EntityGraph(attributePaths = {"owner"})
     List<Item> findByOwnerId(Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"owner", "itemRequest", "itemRequest.user"})
+    List<Item> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select new ru.practicum.shareit.item.model.ItemDto(i.id, i.name, i.description, i.available, r.id) " +
+            "from Item i left join i.itemRequest r " +
+            "where i.available = true")
+    List<ItemDto> findAllAvailableForSearch();
+
+    boolean existsByOwnerId(Long userId);
 }
@@ -0,0 +1,225 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.backend", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryItemSearchIndex implements ItemSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, String> texts = new HashMap<>();
+    private NavigableMap<String, LongPostings> postings = new TreeMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        Map<Long, String> newTexts = new HashMap<>();
+        NavigableMap<String, LongPostings> newPostings = new TreeMap<>();
+
+        for (ItemDto item : itemRepository.findAllAvailableForSearch()) {
+            var text = toText(item.getName(), item.getDescription());
+            newTexts.put(item.getId(), text);
+            addGrams(newPostings, item.getId(), text);
+        }
+
+        lock.writeLock().lock();
+        try {
+            texts = newTexts;
+            postings = newPostings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        var ids = findIds(text.toLowerCase(Locale.ROOT), pageable.getOffset(), pageable.getPageSize());
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        var items = new ArrayList<>(itemRepository.findAllByIdIn(ids));
+        items.sort(Comparator.comparing(Item::getId));
+        return items;
+    }
+
+    @Override
+    public void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            removeFromIndex(item.getId());
+            if (Boolean.TRUE.equals(item.getAvailable())) {
+                var text = toText(item.getName(), item.getDescription());
+                texts.put(item.getId(), text);
+                addGrams(postings, item.getId(), text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeFromIndex(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Long> findIds(String query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return query.length() < GRAM_LENGTH
+                    ? findByGramPrefix(query, offset, limit)
+                    : findByGrams(query, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> findByGrams(String query, long offset, int limit) {
+        var lists = new ArrayList<LongPostings>();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            var list = postings.get(query.substring(i, i + GRAM_LENGTH));
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(LongPostings::size));
+
+        var result = new ArrayList<Long>();
+        var skipped = 0L;
+        var smallest = lists.get(0);
+        for (int i = 0; i < smallest.size() && result.size() < limit; i++) {
+            var id = smallest.get(i);
+            if (containsInAll(lists, id) && texts.get(id).contains(query)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Long> findByGramPrefix(String query, long offset, int limit) {
+        var cursors = new PriorityQueue<PostingsCursor>(Comparator.comparingLong(PostingsCursor::current));
+        for (LongPostings list : postings.subMap(query, true, query + Character.MAX_VALUE, true).values()) {
+            if (!list.isEmpty()) {
+                cursors.add(new PostingsCursor(list));
+            }
+        }
+
+        var result = new ArrayList<Long>();
+        var skipped = 0L;
+        var previous = Long.MIN_VALUE;
+        while (!cursors.isEmpty() && result.size() < limit) {
+            var cursor = cursors.poll();
+            var id = cursor.current();
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+            if (id == previous) {
+                continue;
+            }
+            previous = id;
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private void removeFromIndex(Long itemId) {
+        var oldText = texts.remove(itemId);
+        if (oldText == null) {
+            return;
+        }
+        for (String gram : grams(oldText)) {
+            var list = postings.get(gram);
+            if (list != null) {
+                list.remove(itemId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<LongPostings> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addGrams(Map<String, LongPostings> postings, Long itemId, String text) {
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new LongPostings()).add(itemId);
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        var grams = new LinkedHashSet<String>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, Math.min(i + GRAM_LENGTH, text.length())));
+        }
+        return grams;
+    }
+
+    private static String toText(String name, String description) {
+        return (name + FIELD_SEPARATOR + description).toLowerCase(Locale.ROOT);
+    }
+
+    private static final class PostingsCursor {
+
+        private final LongPostings list;
+        private int position;
+
+        private PostingsCursor(LongPostings list) {
+            this.list = list;
+        }
+
+        private long current() {
+            return list.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < list.size();
+        }
+    }
+}
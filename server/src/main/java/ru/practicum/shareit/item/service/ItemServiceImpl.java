@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.BookingDtoForItem;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
 import ru.practicum.shareit.exception.BookingTransactionException;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.item.model.CommentDto;
@@ -15,6 +17,8 @@ import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.matching.RequestItemMatcher;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -23,10 +27,13 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
-import static ru.practicum.shareit.booking.mapper.BookingMapper.toBookingDtoForItem;
 import static ru.practicum.shareit.item.mapper.CommentMapper.toComment;
 import static ru.practicum.shareit.item.mapper.CommentMapper.toCommentDto;
 import static ru.practicum.shareit.item.mapper.ItemMapper.*;
@@ -43,31 +50,29 @@ public class ItemServiceImpl implements ItemService {
 
     private final ItemRequestRepository itemRequestRepository;
 
+    private final ItemSearchIndex itemSearchIndex;
+    private final Optional<RequestItemMatcher> requestItemMatcher;
+    private final EntityCacheEvictor cacheEvictor;
+
     @Override
     public ItemDto save(Long userId, ItemDto itemDto) {
-        checkUserAvailability(userId, userRepository);
-
         var item = toItem(itemDto);
-        item.setOwner(userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Пользователь с id: %s не найден.", userId))));
+        item.setOwner(findUser(userId, userRepository));
 
         var requestId = itemDto.getRequestId();
         if (requestId != null) {
-            checkRequestAvailability(requestId, itemRequestRepository);
-            item.setItemRequest(itemRequestRepository.findById(requestId)
-                    .orElseThrow(() -> new EntityNotFoundException(format("Запрос с id: %s не найден.", requestId))));
+            item.setItemRequest(findRequest(requestId, itemRequestRepository));
         }
-        return toItemDto(itemRepository.save(item));
+        var savedItem = itemRepository.save(item);
+        itemSearchIndex.index(savedItem);
+        requestItemMatcher.ifPresent(matcher -> matcher.itemSaved(savedItem));
+        return toItemDto(savedItem);
     }
 
     @Override
     public ItemDto update(Long userId, Long itemId, ItemDto itemDto) {
-        checkUserAvailability(userId, userRepository);
-        checkItemAvailability(itemId, itemRepository);
-        checkItemOwner(userId, itemId);
-
-        var oldItem = itemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Вещь с id: %s не найдена.", itemId)));
+        var oldItem = findItem(itemId, itemRepository);
+        checkItemOwner(userId, oldItem);
 
         if (itemDto.getName() != null) {
             oldItem.setName(itemDto.getName());
@@ -80,27 +85,31 @@ public class ItemServiceImpl implements ItemService {
         if (itemDto.getAvailable() != null) {
             oldItem.setAvailable(itemDto.getAvailable());
         }
-        return toItemDto(itemRepository.save(oldItem));
+        var savedItem = itemRepository.save(oldItem);
+        cacheEvictor.evict(Item.class, itemId);
+        itemSearchIndex.index(savedItem);
+        requestItemMatcher.ifPresent(matcher -> matcher.itemSaved(savedItem));
+        return toItemDto(savedItem);
     }
 
     @Override
     public void deleteById(Long itemId) {
-        checkItemAvailability(itemId, itemRepository);
-        itemRepository.deleteById(itemId);
+        itemRepository.delete(findItem(itemId, itemRepository));
+        cacheEvictor.evict(Item.class, itemId);
+        itemSearchIndex.remove(itemId);
+        requestItemMatcher.ifPresent(matcher -> matcher.itemRemoved(itemId));
     }
 
     @Override
     public ItemDtoWithBooking findById(Long itemId, Long userId) {
-        checkItemAvailability(itemId, itemRepository);
+        var item = findItem(itemId, itemRepository);
         checkUserAvailability(userId, userRepository);
 
-        var item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Вещь с id: %s не найдена.", itemId)));
         var itemDtoWithBooking = toItemDtoWithBooking(item);
         var comments = commentRepository.findAllByItemId(itemId);
 
         if (item.getOwner().getId().equals(userId)) {
-            createItemDtoWithBooking(itemDtoWithBooking);
+            setLastAndNextBookings(List.of(itemDtoWithBooking));
         }
 
         if (!comments.isEmpty()) {
@@ -127,17 +136,23 @@ public class ItemServiceImpl implements ItemService {
                 .map(ItemMapper::toItemDtoWithBooking)
                 .collect(Collectors.toList());
 
-        for (ItemDtoWithBooking itemDtoWithBooking : result) {
-            createItemDtoWithBooking(itemDtoWithBooking);
+        if (result.isEmpty()) {
+            return result;
+        }
 
-            var comments = commentRepository.findAllByItemId(itemDtoWithBooking.getId());
+        setLastAndNextBookings(result);
+
+        var itemIds = result.stream()
+                .map(ItemDtoWithBooking::getId)
+                .collect(Collectors.toList());
+        var comments = commentRepository.findAllByItemIdIn(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toCommentDto, Collectors.toList())));
 
-            if (!comments.isEmpty()) {
-                itemDtoWithBooking.setComments(comments
-                        .stream()
-                        .map(CommentMapper::toCommentDto)
-                        .collect(Collectors.toList()));
-            }
+        for (ItemDtoWithBooking itemDtoWithBooking : result) {
+            itemDtoWithBooking.setComments(comments.getOrDefault(itemDtoWithBooking.getId(),
+                    itemDtoWithBooking.getComments()));
         }
         result.sort(Comparator.comparing(ItemDtoWithBooking::getId));
         return result;
@@ -151,20 +166,16 @@ public class ItemServiceImpl implements ItemService {
         if (text.isEmpty()) {
             return new ArrayList<>();
         }
-        return itemRepository.search(text, pageable)
+        return itemSearchIndex.search(text, pageable)
                 .stream()
-                .filter(Item::getAvailable)
                 .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     public CommentDto saveComment(Long userId, Long itemId, CommentDto commentDto) {
-        checkUserAvailability(userId, userRepository);
-        checkItemAvailability(itemId, itemRepository);
-
-        var item = itemRepository.findById(itemId).orElseThrow();
-        var user = userRepository.findById(userId).orElseThrow();
+        var user = findUser(userId, userRepository);
+        var item = findItem(itemId, itemRepository);
 
         var bookings = bookingRepository.searchBookingByBookerIdAndItemIdAndEndIsBeforeAndStatus(userId,
                 itemId,
@@ -184,33 +195,32 @@ public class ItemServiceImpl implements ItemService {
         return toCommentDto(comment);
     }
 
-    private void checkItemOwner(Long userId, Long itemId) {
-        if (!itemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Вещь с id: %s не найдена.", itemId)))
-                .getOwner().getId().equals(userId)) {
+    private void checkItemOwner(Long userId, Item item) {
+        if (!item.getOwner().getId().equals(userId)) {
             throw new EntityNotFoundException((format("Вещь с id: %s не принадлежит пользователю с id: %s.",
-                    itemId,
+                    item.getId(),
                     userId)));
         }
     }
 
-    private void createItemDtoWithBooking(ItemDtoWithBooking itemDtoWithBooking) {
-        var lastBookings = bookingRepository
-                .findBookingsByItemIdAndEndIsBeforeOrderByEndDesc(itemDtoWithBooking.getId(),
-                        LocalDateTime.now());
-
-        if (!lastBookings.isEmpty()) {
-            var lastBooking = toBookingDtoForItem(lastBookings.get(0));
-            itemDtoWithBooking.setLastBooking(lastBooking);
-        }
+    private void setLastAndNextBookings(Collection<ItemDtoWithBooking> items) {
+        var itemIds = items.stream()
+                .map(ItemDtoWithBooking::getId)
+                .collect(Collectors.toList());
+        var now = LocalDateTime.now();
 
-        var nextBookings = bookingRepository
-                .findBookingsByItemIdAndStartIsAfterOrderByStartDesc(itemDtoWithBooking.getId(),
-                        LocalDateTime.now());
+        var lastBookings = groupByItemId(bookingRepository.findLastBookingsByItemIds(itemIds, now));
+        var nextBookings = groupByItemId(bookingRepository.findNextBookingsByItemIds(itemIds, now));
 
-        if (!nextBookings.isEmpty()) {
-            var nextBooking = toBookingDtoForItem(nextBookings.get(0));
-            itemDtoWithBooking.setNextBooking(nextBooking);
+        for (ItemDtoWithBooking itemDtoWithBooking : items) {
+            itemDtoWithBooking.setLastBooking(lastBookings.get(itemDtoWithBooking.getId()));
+            itemDtoWithBooking.setNextBooking(nextBookings.get(itemDtoWithBooking.getId()));
         }
     }
+
+    private Map<Long, BookingDtoForItem> groupByItemId(List<BookingDtoForItem> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(BookingDtoForItem::getItemId, Function.identity(),
+                        (first, second) -> first));
+    }
 }
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "shareit.metrics.jdbc.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    @Bean
+    public static JdbcMetricsDataSourcePostProcessor jdbcMetricsDataSourcePostProcessor(
+            ObjectProvider<JdbcStatementMetrics> statementMetrics) {
+        return new JdbcMetricsDataSourcePostProcessor(statementMetrics);
+    }
+
+    @Bean
+    public JdbcStatementMetrics jdbcStatementMetrics(MeterRegistry meterRegistry) {
+        return new JdbcStatementMetrics(meterRegistry);
+    }
+
+    @Bean
+    public JdbcRequestMetricsFilter jdbcRequestMetricsFilter(MeterRegistry meterRegistry) {
+        return new JdbcRequestMetricsFilter(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class JdbcMetricsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<JdbcStatementMetrics> statementMetrics;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create((DataSource) bean)
+                .name(beanName)
+                .listener(new LazyStatementMetrics())
+                .build();
+    }
+
+    private class LazyStatementMetrics implements QueryExecutionListener {
+
+        private volatile JdbcStatementMetrics delegate;
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            delegate().beforeQuery(execInfo, queryInfoList);
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            delegate().afterQuery(execInfo, queryInfoList);
+        }
+
+        private JdbcStatementMetrics delegate() {
+            var metrics = delegate;
+            if (metrics == null) {
+                metrics = statementMetrics.getObject();
+                delegate = metrics;
+            }
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class JdbcRequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_STATEMENTS_METRIC = "shareit.jdbc.request.statements";
+    static final String REQUEST_TIME_METRIC = "shareit.jdbc.request.time";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var statements = RequestStatements.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statements.stop();
+            var tags = Tags.of("method", request.getMethod(), "uri", uri(request));
+            DistributionSummary.builder(REQUEST_STATEMENTS_METRIC)
+                    .description("JDBC statements executed per HTTP request")
+                    .baseUnit("statements")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(statements.getCount());
+            Timer.builder(REQUEST_TIME_METRIC)
+                    .description("Time spent in JDBC statements per HTTP request")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(statements.getNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        return Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), "UNKNOWN");
+    }
+}
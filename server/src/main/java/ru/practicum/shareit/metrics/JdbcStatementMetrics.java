@@ -0,0 +1,51 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class JdbcStatementMetrics implements QueryExecutionListener {
+
+    static final String STATEMENT_METRIC = "shareit.jdbc.statements";
+    private static final String STARTED_AT = "shareit.jdbc.started-at";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        var nanos = startedAt == null
+                ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime())
+                : System.nanoTime() - startedAt;
+        Timer.builder(STATEMENT_METRIC)
+                .description("Time spent executing JDBC statements")
+                .tag("type", type(queryInfoList).name().toLowerCase(Locale.ROOT))
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("success", String.valueOf(execInfo.isSuccess()))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        RequestStatements.record(nanos);
+    }
+
+    private static QueryType type(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return QueryType.OTHER;
+        }
+        return QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Getter;
+
+@Getter
+public final class RequestStatements {
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+
+    private RequestStatements() {
+    }
+
+    public static RequestStatements start() {
+        var statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public static RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    static void record(long nanos) {
+        var statements = CURRENT.get();
+        if (statements != null) {
+            statements.count++;
+            statements.nanos += nanos;
+        }
+    }
+
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.enums.Status;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String SERVICE_METRIC = "shareit.service";
+    private static final String STATE_PARAMETER = "state";
+    private static final String NONE = "none";
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, ServiceMethod> methods = new ConcurrentHashMap<>();
+
+    @Around("execution(* ru.practicum.shareit.*.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        var sample = Timer.start(meterRegistry);
+        var exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            var method = methods.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    ServiceMethod::new);
+            sample.stop(Timer.builder(SERVICE_METRIC)
+                    .description("Time spent in service methods")
+                    .tag("service", method.service)
+                    .tag("method", method.name)
+                    .tag("state", method.state(joinPoint.getArgs()))
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static class ServiceMethod {
+
+        private final String service;
+        private final String name;
+        private final int stateIndex;
+
+        ServiceMethod(Method method) {
+            this.service = Arrays.stream(method.getDeclaringClass().getInterfaces())
+                    .map(Class::getSimpleName)
+                    .filter(name -> name.endsWith("Service"))
+                    .findFirst()
+                    .orElse(method.getDeclaringClass().getSimpleName());
+            this.name = method.getName();
+            var parameters = PARAMETER_NAMES.getParameterNames(method);
+            this.stateIndex = parameters == null ? -1 : Arrays.asList(parameters).indexOf(STATE_PARAMETER);
+        }
+
+        String state(Object[] args) {
+            if (stateIndex < 0) {
+                return NONE;
+            }
+            try {
+                return Status.valueOf(String.valueOf(args[stateIndex])).name();
+            } catch (IllegalArgumentException e) {
+                return "UNKNOWN";
+            }
+        }
+    }
+}
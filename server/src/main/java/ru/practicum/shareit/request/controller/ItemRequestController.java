@@ -2,11 +2,13 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.model.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
 import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.utilities.Cursor;
 
 import java.util.Collection;
 
@@ -31,10 +33,21 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public Collection<ItemRequestDtoWithItems> findAllRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                               @RequestParam(defaultValue = "0") int from,
-                                                               @RequestParam(defaultValue = "20") int size) {
-        return itemRequestService.findAllRequests(userId, from, size);
+    public ResponseEntity<Collection<ItemRequestDtoWithItems>> findAllRequests(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after) {
+        var requests = after == null
+                ? itemRequestService.findAllRequests(userId, from, size)
+                : itemRequestService.findAllRequestsAfter(userId, Cursor.decode(after), size);
+
+        var response = ResponseEntity.ok();
+        if (requests.size() == size) {
+            var last = requests.stream().reduce((first, second) -> second).orElseThrow();
+            response.header(Cursor.NEXT_CURSOR_HEADER, new Cursor(last.getCreated(), last.getId()).encode());
+        }
+        return response.body(requests);
     }
 
     @GetMapping("/{requestId}")
@@ -3,7 +3,6 @@ package ru.practicum.shareit.request.mapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.item.model.ItemDto;
-import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.model.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
@@ -11,7 +10,9 @@ import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -34,20 +35,27 @@ public class ItemRequestMapper {
     }
 
     public ItemRequestDtoWithItems toItemRequestDtoWithItems(ItemRequest itemRequest) {
-        ItemRequestDtoWithItems itemRequestDtoWithItems = new ItemRequestDtoWithItems(itemRequest.getId(),
-                itemRequest.getDescription(),
-                itemRequest.getCreated(),
-                new ArrayList<>()
-        );
-        List<ItemDto> items = findAllItems(itemRequestDtoWithItems.getId());
-        if (!items.isEmpty()) {
-            itemRequestDtoWithItems.setItems(items);
+        return toItemRequestDtosWithItems(List.of(itemRequest)).get(0);
+    }
+
+    public List<ItemRequestDtoWithItems> toItemRequestDtosWithItems(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return new ArrayList<>();
         }
-        return itemRequestDtoWithItems;
+        var items = findAllItems(itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList()));
+
+        return itemRequests.stream()
+                .map(itemRequest -> new ItemRequestDtoWithItems(itemRequest.getId(),
+                        itemRequest.getDescription(),
+                        itemRequest.getCreated(),
+                        items.getOrDefault(itemRequest.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 
-    private List<ItemDto> findAllItems(Long id) {
-        return itemRepository.findAllByItemRequestId(id)
-                .stream().map(ItemMapper::toItemDto).collect(Collectors.toList());
+    private Map<Long, List<ItemDto>> findAllItems(Collection<Long> ids) {
+        return itemRepository.findAllByItemRequestIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ItemDto::getRequestId));
     }
 }
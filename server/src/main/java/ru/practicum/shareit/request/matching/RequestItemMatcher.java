@@ -0,0 +1,277 @@
+package ru.practicum.shareit.request.matching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestDto;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.matching.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestItemMatcher {
+
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final Executor executor;
+    private final int suggestionsLimit;
+    private final double minScore;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TermIndex items = new TermIndex();
+    private final TermIndex requests = new TermIndex();
+    private final Map<Long, Suggestions> suggestions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> suggestedFor = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RequestItemMatcher(ItemRepository itemRepository,
+                              ItemRequestRepository itemRequestRepository,
+                              @Value("${shareit.matching.threads:2}") int threads,
+                              @Value("${shareit.matching.queue-capacity:1000}") int queueCapacity,
+                              @Value("${shareit.matching.suggestions:5}") int suggestionsLimit,
+                              @Value("${shareit.matching.min-score:0.3}") double minScore) {
+        this(itemRepository, itemRequestRepository, newExecutor(threads, queueCapacity), suggestionsLimit, minScore);
+    }
+
+    RequestItemMatcher(ItemRepository itemRepository,
+                       ItemRequestRepository itemRequestRepository,
+                       Executor executor,
+                       int suggestionsLimit,
+                       double minScore) {
+        this.itemRepository = itemRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.executor = executor;
+        this.suggestionsLimit = suggestionsLimit;
+        this.minScore = minScore;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<Long> requestIds = new ArrayList<>();
+
+        lock.writeLock().lock();
+        try {
+            for (ItemDto item : itemRepository.findAllAvailableForSearch()) {
+                items.put(item.getId(), Terms.of(item.getName(), item.getDescription()));
+            }
+            for (ItemRequestDto request : itemRequestRepository.findAllForMatching()) {
+                requests.put(request.getId(), Terms.of(request.getDescription()));
+                requestIds.add(request.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        submit(() -> requestIds.forEach(this::matchRequest));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    public void itemSaved(Item item) {
+        var itemId = item.getId();
+        var terms = Boolean.TRUE.equals(item.getAvailable())
+                ? Terms.of(item.getName(), item.getDescription())
+                : new String[0];
+        submit(() -> matchItem(itemId, terms));
+    }
+
+    public void itemRemoved(Long itemId) {
+        submit(() -> matchItem(itemId, new String[0]));
+    }
+
+    public void requestSaved(ItemRequest request) {
+        var requestId = request.getId();
+        var terms = Terms.of(request.getDescription());
+        submit(() -> {
+            lock.writeLock().lock();
+            try {
+                requests.put(requestId, terms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            matchRequest(requestId);
+        });
+    }
+
+    public List<ItemDto> findSuggestedItems(ItemRequest request) {
+        var ids = findSuggestedItemIds(request.getId());
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        var found = itemRepository.findAllByIdIn(ids).stream()
+                .filter(item -> Boolean.TRUE.equals(item.getAvailable()))
+                .filter(item -> !item.getOwner().getId().equals(request.getUser().getId()))
+                .filter(item -> item.getItemRequest() == null
+                        || !item.getItemRequest().getId().equals(request.getId()))
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return ids.stream()
+                .filter(found::containsKey)
+                .map(id -> ItemMapper.toItemDto(found.get(id)))
+                .collect(Collectors.toList());
+    }
+
+    List<Long> findSuggestedItemIds(Long requestId) {
+        var list = suggestions.get(requestId);
+        return list == null ? new ArrayList<>() : list.ids();
+    }
+
+    private void matchItem(Long itemId, String[] terms) {
+        lock.writeLock().lock();
+        try {
+            items.put(itemId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        var affected = suggestedFor.remove(itemId);
+        if (affected != null) {
+            for (Long requestId : affected) {
+                var list = suggestions.get(requestId);
+                synchronized (list) {
+                    list.remove(itemId);
+                }
+                matchRequest(requestId);
+            }
+        }
+        if (terms.length == 0) {
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            var itemTerms = Set.of(terms);
+            var candidates = new HashSet<Long>();
+            for (String term : terms) {
+                var list = requests.postings(term);
+                for (int i = 0; list != null && i < list.size(); i++) {
+                    candidates.add(list.get(i));
+                }
+            }
+            if (affected != null) {
+                candidates.removeAll(affected);
+            }
+            for (Long requestId : candidates) {
+                var requestTerms = requests.terms(requestId);
+                var matched = 0.0;
+                for (String term : requestTerms) {
+                    if (itemTerms.contains(term)) {
+                        matched += idf(term);
+                    }
+                }
+                offer(requestId, itemId, matched / weight(requestTerms));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void matchRequest(Long requestId) {
+        lock.readLock().lock();
+        try {
+            var requestTerms = requests.terms(requestId);
+            if (requestTerms == null) {
+                return;
+            }
+            var scores = new HashMap<Long, Double>();
+            for (String term : requestTerms) {
+                var list = items.postings(term);
+                var idf = idf(term);
+                for (int i = 0; list != null && i < list.size(); i++) {
+                    scores.merge(list.get(i), idf, Double::sum);
+                }
+            }
+            var weight = weight(requestTerms);
+            scores.forEach((itemId, matched) -> offer(requestId, itemId, matched / weight));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void offer(Long requestId, Long itemId, double score) {
+        if (score < minScore) {
+            return;
+        }
+        var list = suggestions.computeIfAbsent(requestId, id -> new Suggestions(suggestionsLimit));
+        synchronized (list) {
+            suggestedFor.compute(itemId, (id, requestIds) -> {
+                var result = requestIds == null ? new HashSet<Long>() : requestIds;
+                result.add(requestId);
+                return result;
+            });
+            var dropped = list.offer(itemId, score);
+            if (dropped != null) {
+                suggestedFor.computeIfPresent(dropped, (id, requestIds) -> {
+                    requestIds.remove(requestId);
+                    return requestIds.isEmpty() ? null : requestIds;
+                });
+            }
+        }
+    }
+
+    private double weight(String[] terms) {
+        var weight = 0.0;
+        for (String term : terms) {
+            if (items.documentFrequency(term) > 0) {
+                weight += idf(term);
+            }
+        }
+        return weight;
+    }
+
+    private double idf(String term) {
+        var total = items.size();
+        var frequency = items.documentFrequency(term);
+        return Math.log(1 + (total - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            log.warn("Задача подбора вещей для запросов отклонена: {}", e.getMessage());
+        }
+    }
+
+    private static ExecutorService newExecutor(int threads, int queueCapacity) {
+        var counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "request-matcher-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
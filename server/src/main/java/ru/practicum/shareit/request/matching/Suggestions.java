@@ -0,0 +1,68 @@
+package ru.practicum.shareit.request.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class Suggestions {
+
+    private final long[] ids;
+    private final double[] scores;
+    private int size;
+
+    Suggestions(int capacity) {
+        ids = new long[capacity];
+        scores = new double[capacity];
+    }
+
+    synchronized Long offer(long id, double score) {
+        Long dropped = null;
+        var position = indexOf(id);
+        if (position >= 0) {
+            removeAt(position);
+        } else if (size == ids.length && scores[size - 1] >= score) {
+            return id;
+        }
+        if (size == ids.length) {
+            dropped = ids[--size];
+        }
+        var insertAt = size;
+        while (insertAt > 0 && scores[insertAt - 1] < score) {
+            insertAt--;
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(scores, insertAt, scores, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        scores[insertAt] = score;
+        size++;
+        return dropped;
+    }
+
+    synchronized void remove(long id) {
+        var position = indexOf(id);
+        if (position >= 0) {
+            removeAt(position);
+        }
+    }
+
+    synchronized List<Long> ids() {
+        var result = new ArrayList<Long>(size);
+        Arrays.stream(ids, 0, size).forEach(result::add);
+        return result;
+    }
+
+    private int indexOf(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int position) {
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        System.arraycopy(scores, position + 1, scores, position, size - position - 1);
+        size--;
+    }
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.request.matching;
+
+import ru.practicum.shareit.item.search.LongPostings;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class TermIndex {
+
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final Map<String, LongPostings> postings = new HashMap<>();
+
+    void put(Long id, String[] terms) {
+        remove(id);
+        if (terms.length == 0) {
+            return;
+        }
+        documents.put(id, terms);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new LongPostings()).add(id);
+        }
+    }
+
+    void remove(Long id) {
+        var terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            var list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    String[] terms(Long id) {
+        return documents.get(id);
+    }
+
+    LongPostings postings(String term) {
+        return postings.get(term);
+    }
+
+    int documentFrequency(String term) {
+        var list = postings.get(term);
+        return list == null ? 0 : list.size();
+    }
+
+    int size() {
+        return documents.size();
+    }
+}
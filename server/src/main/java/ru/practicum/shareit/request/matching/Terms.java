@@ -0,0 +1,48 @@
+package ru.practicum.shareit.request.matching;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+final class Terms {
+
+    static final int MIN_TERM_LENGTH = 3;
+    static final int STEM_LENGTH = 5;
+
+    private static final String ENDINGS = "аеёиоуыэюяьйaeiouy";
+
+    private Terms() {
+    }
+
+    static String[] of(String... texts) {
+        var terms = new LinkedHashSet<String>();
+        for (String text : texts) {
+            if (text != null) {
+                collect(text.toLowerCase(Locale.ROOT), terms);
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    static String stem(String word) {
+        var end = Math.min(word.length(), STEM_LENGTH);
+        while (end > MIN_TERM_LENGTH && ENDINGS.indexOf(word.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return word.substring(0, end);
+    }
+
+    private static void collect(String text, LinkedHashSet<String> terms) {
+        var start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            var letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                if (i - start >= MIN_TERM_LENGTH) {
+                    terms.add(stem(text.substring(start, i)));
+                }
+                start = -1;
+            }
+        }
+    }
+}
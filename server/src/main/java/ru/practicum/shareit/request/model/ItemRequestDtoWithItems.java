@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import ru.practicum.shareit.item.model.ItemDto;
 
@@ -20,4 +21,11 @@ public class ItemRequestDtoWithItems {
     private LocalDateTime created;
 
     private List<ItemDto> items;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ItemDto> suggestedItems;
+
+    public ItemRequestDtoWithItems(Long id, String description, LocalDateTime created, List<ItemDto> items) {
+        this(id, description, created, items, null);
+    }
 }
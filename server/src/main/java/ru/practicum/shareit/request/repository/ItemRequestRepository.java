@@ -1,8 +1,13 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
@@ -10,4 +15,18 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
     List<ItemRequest> findAll();
 
     List<ItemRequest> findAllByUserIdOrderByCreatedDesc(Long userId);
+
+    @EntityGraph(attributePaths = {"user"})
+    List<ItemRequest> findAllByUserIdNot(Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user"})
+    @Query("select r from ItemRequest r " +
+            "where r.user.id <> ?1 " +
+            "and (r.created > ?2 or (r.created = ?2 and r.id > ?3)) " +
+            "order by r.created, r.id")
+    List<ItemRequest> findAllByUserIdNotAfter(Long userId, LocalDateTime created, long id, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.request.model.ItemRequestDto(r.id, r.description, r.created) " +
+            "from ItemRequest r")
+    List<ItemRequestDto> findAllForMatching();
 }
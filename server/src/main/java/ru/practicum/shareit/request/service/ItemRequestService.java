@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.service;
 
 import ru.practicum.shareit.request.model.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
+import ru.practicum.shareit.utilities.Cursor;
 
 import java.util.Collection;
 
@@ -12,5 +13,7 @@ public interface ItemRequestService {
 
     Collection<ItemRequestDtoWithItems> findAllRequests(Long userId, int from, int size);
 
+    Collection<ItemRequestDtoWithItems> findAllRequestsAfter(Long userId, Cursor after, int size);
+
     ItemRequestDtoWithItems findByRequestId(Long userId, Long itemRequestId);
 }
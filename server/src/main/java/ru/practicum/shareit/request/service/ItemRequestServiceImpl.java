@@ -4,22 +4,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.request.model.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequestDtoWithItems;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.matching.RequestItemMatcher;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utilities.Cursor;
 
 import javax.validation.ValidationException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
-import static java.lang.String.format;
 import static ru.practicum.shareit.request.mapper.ItemRequestMapper.toItemRequest;
 import static ru.practicum.shareit.request.mapper.ItemRequestMapper.toItemRequestDto;
-import static ru.practicum.shareit.utilities.Checker.checkRequestAvailability;
 import static ru.practicum.shareit.utilities.Checker.checkUserAvailability;
+import static ru.practicum.shareit.utilities.Checker.findRequest;
+import static ru.practicum.shareit.utilities.Checker.findUser;
 
 @Service
 @RequiredArgsConstructor
@@ -28,24 +29,21 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRequestMapper mapper;
     private final UserRepository userRepository;
-
+    private final Optional<RequestItemMatcher> requestItemMatcher;
 
     @Override
     public ItemRequestDto save(ItemRequestDto itemRequestDto, Long userId) {
-        checkUserAvailability(userId, userRepository);
         var itemRequest = toItemRequest(itemRequestDto);
-        itemRequest.setUser(userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Пользователь с id: %s не найден.", userId))));
-        return toItemRequestDto(itemRequestRepository.save(itemRequest));
+        itemRequest.setUser(findUser(userId, userRepository));
+        var savedRequest = itemRequestRepository.save(itemRequest);
+        requestItemMatcher.ifPresent(matcher -> matcher.requestSaved(savedRequest));
+        return toItemRequestDto(savedRequest);
     }
 
     @Override
     public List<ItemRequestDtoWithItems> findAll(Long userId) {
         checkUserAvailability(userId, userRepository);
-        return itemRequestRepository.findAllByUserIdOrderByCreatedDesc(userId)
-                .stream()
-                .map(mapper::toItemRequestDtoWithItems)
-                .collect(Collectors.toList());
+        return mapper.toItemRequestDtosWithItems(itemRequestRepository.findAllByUserIdOrderByCreatedDesc(userId));
     }
 
     @Override
@@ -57,21 +55,29 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         }
 
         var page = from / size;
-        var pageable = PageRequest.of(page, size, Sort.by("created"));
+        var pageable = PageRequest.of(page, size, Sort.by("created", "id"));
 
-        return itemRequestRepository.findAll(pageable)
-                .stream()
-                .filter(itemRequest -> !itemRequest.getUser().getId().equals(userId))
-                .map(mapper::toItemRequestDtoWithItems)
-                .collect(Collectors.toList());
+        return mapper.toItemRequestDtosWithItems(itemRequestRepository.findAllByUserIdNot(userId, pageable));
     }
 
     @Override
-    public ItemRequestDtoWithItems findByRequestId(Long userId, Long requestId) {
+    public List<ItemRequestDtoWithItems> findAllRequestsAfter(Long userId, Cursor after, int size) {
         checkUserAvailability(userId, userRepository);
-        checkRequestAvailability(requestId, itemRequestRepository);
 
-        return mapper.toItemRequestDtoWithItems(itemRequestRepository.findById(requestId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Запрос с id: %s не найден.", requestId))));
+        if (size <= 0) {
+            throw new ValidationException("Передано некорректное значение size.");
+        }
+        return mapper.toItemRequestDtosWithItems(itemRequestRepository.findAllByUserIdNotAfter(userId,
+                after.getTime(), after.getId(), PageRequest.of(0, size)));
+    }
+
+    @Override
+    public ItemRequestDtoWithItems findByRequestId(Long userId, Long requestId) {
+        checkUserAvailability(userId, userRepository);
+        var itemRequest = findRequest(requestId, itemRequestRepository);
+        var itemRequestDto = mapper.toItemRequestDtoWithItems(itemRequest);
+        itemRequestDto.setSuggestedItems(requestItemMatcher.map(matcher -> matcher.findSuggestedItems(itemRequest))
+                .orElseGet(List::of));
+        return itemRequestDto;
     }
 }
@@ -4,4 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.user.model.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    boolean existsByEmailAndIdNot(String email, Long id);
+
+    @Override
+    default boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
 }
@@ -1,31 +1,42 @@
 package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
 import ru.practicum.shareit.exception.EmailValidationException;
-import ru.practicum.shareit.exception.EntityNotFoundException;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static ru.practicum.shareit.user.mapper.UserMapper.toUser;
 import static ru.practicum.shareit.user.mapper.UserMapper.toUserDto;
-import static ru.practicum.shareit.utilities.Checker.checkUserAvailability;
+import static ru.practicum.shareit.utilities.Checker.findUser;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    static final String EMAIL_CONSTRAINT = "users_email_key";
+
     private final UserRepository userRepository;
+    private final EntityCacheEvictor cacheEvictor;
 
     @Override
     public UserDto save(UserDto userDto) {
-        return toUserDto(userRepository.save(toUser(userDto)));
+        try {
+            return toUserDto(userRepository.save(toUser(userDto)));
+        } catch (DataIntegrityViolationException e) {
+            throw emailConflictOr(e, userDto.getEmail());
+        }
     }
 
     @Override
@@ -36,25 +47,28 @@ public class UserServiceImpl implements UserService {
             oldUserDto.setName(userDto.getName());
         }
         if (userDto.getEmail() != null && !userDto.getEmail().equals(oldUserDto.getEmail())) {
-            checkEmailConflict(userDto.getEmail());
+            checkEmailConflict(userId, userDto.getEmail());
             oldUserDto.setEmail(userDto.getEmail());
         }
 
-        userRepository.save(toUser(oldUserDto));
+        try {
+            userRepository.save(toUser(oldUserDto));
+        } catch (DataIntegrityViolationException e) {
+            throw emailConflictOr(e, oldUserDto.getEmail());
+        }
+        cacheEvictor.evict(User.class, userId);
         return oldUserDto;
     }
 
     @Override
     public void deleteById(Long userId) {
-        checkUserAvailability(userId, userRepository);
-        userRepository.deleteById(userId);
+        userRepository.delete(findUser(userId, userRepository));
+        cacheEvictor.evict(User.class, userId);
     }
 
     @Override
     public UserDto getById(Long userId) {
-        checkUserAvailability(userId, userRepository);
-        return toUserDto(userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(format("Пользователь с id: %s не найден.", userId))));
+        return toUserDto(findUser(userId, userRepository));
     }
 
     @Override
@@ -64,9 +78,22 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private void checkEmailConflict(String email) {
-        findAll().stream().filter(user -> user.getEmail().equals(email)).forEach(user -> {
-            throw new EmailValidationException((format("Email: %s уже используется.", email)));
-        });
+    private void checkEmailConflict(Long userId, String email) {
+        if (userRepository.existsByEmailAndIdNot(email, userId)) {
+            throw new EmailValidationException(format("Email: %s уже используется.", email));
+        }
+    }
+
+    private static RuntimeException emailConflictOr(DataIntegrityViolationException e, String email) {
+        if (e.getCause() instanceof ConstraintViolationException) {
+            var violation = (ConstraintViolationException) e.getCause();
+            var constraint = violation.getConstraintName() != null
+                    ? violation.getConstraintName()
+                    : violation.getSQLException().getMessage();
+            if (constraint != null && constraint.toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT)) {
+                return new EmailValidationException(format("Email: %s уже используется.", email));
+            }
+        }
+        return e;
     }
 }
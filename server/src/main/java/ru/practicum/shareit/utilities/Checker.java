@@ -1,9 +1,13 @@
 package ru.practicum.shareit.utilities;
 
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.EntityNotFoundException;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import static java.lang.String.format;
@@ -16,21 +20,23 @@ public class Checker {
         }
     }
 
-    public static void checkItemAvailability(Long itemId, ItemRepository itemRepository) {
-        if (!itemRepository.existsById(itemId)) {
-            throw new EntityNotFoundException(format("Вещь с id: %s не найдена.", itemId));
-        }
+    public static User findUser(Long userId, UserRepository userRepository) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException(format("Пользователь с id: %s не найден.", userId)));
     }
 
-    public static void checkBookingAvailability(Long bookingId, BookingRepository bookingRepository) {
-        if (!bookingRepository.existsById(bookingId)) {
-            throw new EntityNotFoundException(format("Бронирование с id: %s не найдена.", bookingId));
-        }
+    public static Item findItem(Long itemId, ItemRepository itemRepository) {
+        return itemRepository.findById(itemId)
+                .orElseThrow(() -> new EntityNotFoundException(format("Вещь с id: %s не найдена.", itemId)));
     }
 
-    public static void checkRequestAvailability(Long requestId, ItemRequestRepository itemRequestRepository) {
-        if (!itemRequestRepository.existsById(requestId)) {
-            throw new EntityNotFoundException(format("Запрос с id: %s не найден.", requestId));
-        }
+    public static Booking findBooking(Long bookingId, BookingRepository bookingRepository) {
+        return bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException(format("Бронирование с id: %s не найдена.", bookingId)));
+    }
+
+    public static ItemRequest findRequest(Long requestId, ItemRequestRepository itemRequestRepository) {
+        return itemRequestRepository.findById(requestId)
+                .orElseThrow(() -> new EntityNotFoundException(format("Запрос с id: %s не найден.", requestId)));
     }
 }
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.version;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final Pattern ITEM_PATH = Pattern.compile("^/items/\\d+$");
+    private static final Set<String> TIME_DEPENDENT_STATES = Set.of("CURRENT", "PAST", "FUTURE");
+
+    private final DataVersions dataVersions;
+    private final Clock clock;
+    private final long timeBucketMillis;
+
+    @Autowired
+    public ConditionalGetFilter(DataVersions dataVersions,
+                                @Value("${shareit.etag.time-bucket:30s}") Duration timeBucket) {
+        this(dataVersions, Clock.systemUTC(), timeBucket);
+    }
+
+    ConditionalGetFilter(DataVersions dataVersions, Clock clock, Duration timeBucket) {
+        this.dataVersions = dataVersions;
+        this.clock = clock;
+        this.timeBucketMillis = Math.max(1, timeBucket.toMillis());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var userId = request.getHeader(USER_HEADER);
+        var route = ConditionalRoute.of(request);
+        if (userId == null || route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, USER_HEADER);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag(route, userId, request))) {
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    String eTag(ConditionalRoute route, String userId, HttpServletRequest request) {
+        var tag = new StringBuilder("\"").append(dataVersions.getEpoch());
+        route.domains.forEach(domain -> tag.append('-').append(dataVersions.get(domain)));
+        tag.append('-').append(userId.trim());
+        if (route.isTimeDependent(request)) {
+            tag.append('-').append(clock.millis() / timeBucketMillis);
+        }
+        return tag.append('"').toString();
+    }
+
+    enum ConditionalRoute {
+        BOOKINGS(EnumSet.of(DataDomain.BOOKINGS, DataDomain.ITEMS, DataDomain.USERS)),
+        ITEM(EnumSet.of(DataDomain.ITEMS, DataDomain.BOOKINGS, DataDomain.USERS)),
+        REQUESTS(EnumSet.of(DataDomain.REQUESTS, DataDomain.ITEMS));
+
+        private final Set<DataDomain> domains;
+
+        ConditionalRoute(Set<DataDomain> domains) {
+            this.domains = domains;
+        }
+
+        static ConditionalRoute of(HttpServletRequest request) {
+            if (HttpMethod.resolve(request.getMethod()) != HttpMethod.GET) {
+                return null;
+            }
+            var path = request.getRequestURI().substring(request.getContextPath().length());
+            if (path.equals("/bookings")) {
+                return BOOKINGS;
+            }
+            if (ITEM_PATH.matcher(path).matches()) {
+                return ITEM;
+            }
+            if (path.equals("/requests")) {
+                return REQUESTS;
+            }
+            return null;
+        }
+
+        boolean isTimeDependent(HttpServletRequest request) {
+            switch (this) {
+                case ITEM:
+                    return true;
+                case BOOKINGS:
+                    var state = request.getParameter("state");
+                    return state != null && TIME_DEPENDENT_STATES.contains(state);
+                default:
+                    return false;
+            }
+        }
+    }
+}
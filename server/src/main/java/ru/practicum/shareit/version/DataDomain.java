@@ -0,0 +1,14 @@
+package ru.practicum.shareit.version;
+
+import java.util.Locale;
+
+public enum DataDomain {
+    USERS,
+    ITEMS,
+    BOOKINGS,
+    REQUESTS;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.version;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class DataVersionFilter extends OncePerRequestFilter {
+
+    public static final String DATA_VERSION_HEADER = "X-Data-Version";
+
+    private final DataVersions dataVersions;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var domains = mutatedDomains(request);
+        if (domains.isEmpty()) {
+            response.setHeader(DATA_VERSION_HEADER, dataVersions.toHeader());
+            chain.doFilter(request, response);
+            return;
+        }
+
+        var versionedResponse = new VersionedResponse(response, domains);
+        chain.doFilter(request, versionedResponse);
+        versionedResponse.applyVersion();
+    }
+
+    static Set<DataDomain> mutatedDomains(HttpServletRequest request) {
+        var method = HttpMethod.resolve(request.getMethod());
+        if (method == null || method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return EnumSet.noneOf(DataDomain.class);
+        }
+
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/users")) {
+            return method == HttpMethod.DELETE ? EnumSet.allOf(DataDomain.class) : EnumSet.of(DataDomain.USERS);
+        }
+        if (path.startsWith("/items")) {
+            return method == HttpMethod.DELETE
+                    ? EnumSet.of(DataDomain.ITEMS, DataDomain.BOOKINGS)
+                    : EnumSet.of(DataDomain.ITEMS);
+        }
+        if (path.startsWith("/bookings")) {
+            return EnumSet.of(DataDomain.BOOKINGS);
+        }
+        if (path.startsWith("/requests")) {
+            return EnumSet.of(DataDomain.REQUESTS);
+        }
+        return EnumSet.noneOf(DataDomain.class);
+    }
+
+    private class VersionedResponse extends HttpServletResponseWrapper {
+
+        private final Set<DataDomain> domains;
+        private boolean applied;
+
+        VersionedResponse(HttpServletResponse response, Set<DataDomain> domains) {
+            super(response);
+            this.domains = domains;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyVersion();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyVersion();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyVersion();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applied = true;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applied = true;
+            super.sendError(sc);
+        }
+
+        void applyVersion() {
+            if (applied || isCommitted()) {
+                return;
+            }
+            applied = true;
+            if (getStatus() < 400) {
+                dataVersions.bump(domains);
+            }
+            setHeader(DATA_VERSION_HEADER, dataVersions.toHeader());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.version;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class DataVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<DataDomain, AtomicLong> versions = new EnumMap<>(DataDomain.class);
+
+    public DataVersions() {
+        for (DataDomain domain : DataDomain.values()) {
+            versions.put(domain, new AtomicLong());
+        }
+    }
+
+    public void bump(Collection<DataDomain> domains) {
+        domains.forEach(domain -> versions.get(domain).incrementAndGet());
+    }
+
+    public long get(DataDomain domain) {
+        return versions.get(domain).get();
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public String toHeader() {
+        var header = new StringBuilder("epoch=").append(epoch);
+        versions.forEach((domain, version) -> header.append(';').append(domain.key()).append('=').append(version.get()));
+        return header.toString();
+    }
+}
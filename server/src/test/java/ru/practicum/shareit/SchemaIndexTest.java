@@ -0,0 +1,59 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "select * from bookings b where b.booker_id = 1 order by b.start_date desc, b.id desc limit 20",
+            "select * from bookings b join items i on b.item_id = i.id where i.owner_id = 1 " +
+                    "order by b.start_date desc, b.id desc limit 20",
+            "select max(b.end_date) from bookings b where b.item_id = 1 and b.end_date < localtimestamp",
+            "select min(b.start_date) from bookings b where b.item_id = 1 and b.start_date > localtimestamp",
+            "select * from bookings b where b.status in ('WAITING', 'APPROVED') and b.end_date > localtimestamp",
+            "select * from items i where i.owner_id = 1",
+            "select * from items i where i.request_id = 1",
+            "select * from comments c where c.item_id = 1",
+            "select * from users u where u.email = 'user@mail.ru' and u.id <> 1",
+            "select * from requests r where r.user_id = 1 order by r.created desc",
+            "select * from requests r order by r.created limit 20",
+            "select * from requests r where r.user_id <> 1 and (r.created > localtimestamp " +
+                    "or (r.created = localtimestamp and r.id > 1)) order by r.created, r.id limit 20"
+    })
+    void hotQueriesUseIndexTest(String sql) {
+        var plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "BOOKINGS_BOOKER_START_IDX",
+            "BOOKINGS_ITEM_START_IDX",
+            "BOOKINGS_ITEM_END_IDX",
+            "BOOKINGS_STATUS_END_IDX",
+            "ITEMS_OWNER_IDX",
+            "ITEMS_REQUEST_IDX",
+            "COMMENTS_ITEM_IDX",
+            "REQUESTS_USER_CREATED_IDX",
+            "REQUESTS_CREATED_ID_IDX"
+    })
+    void migrationCreatesIndexTest(String index) {
+        var count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where upper(index_name) = ?", Integer.class, index);
+
+        assertEquals(1, count);
+    }
+}
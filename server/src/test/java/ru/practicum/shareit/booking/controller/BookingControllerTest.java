@@ -17,6 +17,7 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utilities.Cursor;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -86,6 +87,24 @@ public class BookingControllerTest {
                 .findAll(bookingDto.getBooker().getId(), "ALL", 0, 20);
     }
 
+    @Test
+    void findAllWithCursor() throws Exception {
+        BookingDto bookingDto = toBookingDto(booking);
+        var after = new Cursor(LocalDateTime.parse("2022-10-13T14:00"), 2L);
+        var next = new Cursor(bookingDto.getStart(), bookingDto.getId());
+        when(bookingService.findAllAfter(bookingDto.getBooker().getId(), "ALL", after, 1))
+                .thenReturn(List.of(bookingDto));
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", bookingDto.getBooker().getId())
+                        .param("state", "ALL")
+                        .param("size", "1")
+                        .param("after", after.encode()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(Cursor.NEXT_CURSOR_HEADER, next.encode()))
+                .andExpect(jsonPath("$[0].id", is(1)));
+        verify(bookingService, never()).findAll(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
     @Test
     void findAllByOwner() throws Exception {
         List<BookingDto> bookingDtos = new ArrayList<>();
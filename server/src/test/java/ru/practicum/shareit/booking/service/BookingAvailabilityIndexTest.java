@@ -0,0 +1,177 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDtoSimple;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.booking.enums.Status.APPROVED;
+import static ru.practicum.shareit.booking.enums.Status.REJECTED;
+import static ru.practicum.shareit.booking.enums.Status.WAITING;
+
+class BookingAvailabilityIndexTest {
+
+    private BookingRepository bookingRepository;
+    private BookingAvailabilityIndex index;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        index = new BookingAvailabilityIndex(bookingRepository);
+        start = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    void reserveRejectsOverlappingIntervalsTest() {
+        var slot = index.reserve(1L, start, start.plusDays(2));
+
+        assertTrue(slot.isPresent());
+        assertTrue(index.reserve(1L, start.plusDays(1), start.plusDays(3)).isEmpty());
+        assertTrue(index.reserve(1L, start.minusDays(1), start.plusHours(1)).isEmpty());
+        assertTrue(index.reserve(1L, start.plusHours(1), start.plusHours(2)).isEmpty());
+    }
+
+    @Test
+    void reserveAcceptsAdjacentIntervalsAndOtherItemsTest() {
+        index.reserve(1L, start, start.plusDays(2));
+
+        assertTrue(index.reserve(1L, start.plusDays(2), start.plusDays(3)).isPresent());
+        assertTrue(index.reserve(1L, start.minusDays(1), start).isPresent());
+        assertTrue(index.reserve(2L, start, start.plusDays(2)).isPresent());
+    }
+
+    @Test
+    void longIntervalIsFoundBehindShortOnesTest() {
+        index.reserve(1L, start, start.plusDays(30));
+        index.release(index.reserve(1L, start.plusDays(40), start.plusDays(41)).orElseThrow());
+
+        assertTrue(index.reserve(1L, start.plusDays(20), start.plusDays(21)).isEmpty());
+    }
+
+    @Test
+    void releaseAndRemoveFreeTheIntervalTest() {
+        var slot = index.reserve(1L, start, start.plusDays(2)).orElseThrow();
+        index.release(slot);
+        assertTrue(index.reserve(1L, start, start.plusDays(2)).isPresent());
+
+        var confirmed = index.reserve(2L, start, start.plusDays(2)).orElseThrow();
+        index.confirm(confirmed, 10L);
+        index.remove(10L);
+        assertTrue(index.reserve(2L, start, start.plusDays(2)).isPresent());
+    }
+
+    @Test
+    void updateDropsRejectedBookingsTest() {
+        var owner = new User(1L, "user1", "user1@mail.ru");
+        var item = new Item(1L, "item", "description", true, owner, null);
+        var booking = new Booking(10L, start, start.plusDays(2), item, owner, APPROVED);
+
+        index.update(booking);
+        assertTrue(index.reserve(1L, start, start.plusDays(1)).isEmpty());
+
+        booking.setStatus(REJECTED);
+        index.update(booking);
+        assertTrue(index.reserve(1L, start, start.plusDays(1)).isPresent());
+    }
+
+    @Test
+    void updateRejectsMovingOntoAnotherBookingTest() {
+        var owner = new User(1L, "user1", "user1@mail.ru");
+        var item = new Item(1L, "item", "description", true, owner, null);
+        var first = new Booking(10L, start, start.plusDays(2), item, owner, APPROVED);
+        var second = new Booking(11L, start.plusDays(3), start.plusDays(4), item, owner, WAITING);
+        assertTrue(index.update(first));
+        assertTrue(index.update(second));
+
+        second.setStart(start.plusDays(1));
+        assertFalse(index.update(second));
+        assertTrue(index.reserve(1L, start.plusDays(3), start.plusDays(4)).isEmpty());
+
+        first.setEnd(start.plusDays(1));
+        assertTrue(index.update(first));
+        assertTrue(index.reserve(1L, start.plusDays(1), start.plusDays(2)).isPresent());
+    }
+
+    @Test
+    void updateMovesBookingToAnotherItemTest() {
+        var owner = new User(1L, "user1", "user1@mail.ru");
+        var booking = new Booking(10L, start, start.plusDays(2), new Item(1L, "item", "description", true, owner, null),
+                owner, APPROVED);
+        assertTrue(index.update(booking));
+
+        booking.setItem(new Item(2L, "other", "description", true, owner, null));
+        assertTrue(index.update(booking));
+
+        assertTrue(index.reserve(1L, start, start.plusDays(2)).isPresent());
+        assertTrue(index.reserve(2L, start, start.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    void concurrentApproveAndReserveNeverBothPassTest() throws Exception {
+        var owner = new User(1L, "user1", "user1@mail.ru");
+        var item = new Item(1L, "item", "description", true, owner, null);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 500; i++) {
+                var booking = new Booking(10L, start, start.plusDays(2), item, owner, WAITING);
+                var fresh = new BookingAvailabilityIndex(bookingRepository);
+                fresh.update(booking);
+                booking.setStatus(APPROVED);
+
+                var ready = new CountDownLatch(2);
+                var approve = executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return fresh.update(booking);
+                });
+                var reserve = executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return fresh.reserve(1L, start.plusDays(1), start.plusDays(3)).isPresent();
+                });
+
+                assertTrue(approve.get());
+                assertFalse(reserve.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadIndexesActiveBookingsTest() {
+        when(bookingRepository.findActiveBookingIntervals(anyCollection(), any()))
+                .thenReturn(List.of(new BookingDtoSimple(1L, start, start.plusDays(2), 1L)));
+
+        index.load();
+
+        assertTrue(index.reserve(1L, start.plusDays(1), start.plusDays(3)).isEmpty());
+        assertTrue(index.reserve(1L, start.plusDays(2), start.plusDays(3)).isPresent());
+    }
+
+    @Test
+    void loadSkipsBookingsOverlappingAlreadyIndexedOnesTest() {
+        when(bookingRepository.findActiveBookingIntervals(anyCollection(), any()))
+                .thenReturn(List.of(new BookingDtoSimple(1L, start, start.plusDays(10), 1L),
+                        new BookingDtoSimple(2L, start.plusDays(1), start.plusDays(2), 1L)));
+
+        index.load();
+
+        assertTrue(index.reserve(1L, start.plusDays(5), start.plusDays(6)).isEmpty());
+        assertTrue(index.reserve(1L, start.plusDays(10), start.plusDays(11)).isPresent());
+    }
+}
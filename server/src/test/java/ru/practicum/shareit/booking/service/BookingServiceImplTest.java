@@ -14,7 +14,9 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utilities.Cursor;
 
+import javax.validation.ValidationException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -41,7 +43,7 @@ class BookingServiceImplTest {
         userRepository = mock(UserRepository.class);
         bookingRepository = mock(BookingRepository.class);
         bookingService = new BookingServiceImpl(bookingRepository,
-                userRepository, itemRepository);
+                userRepository, itemRepository, new BookingAvailabilityIndex(bookingRepository));
         booking = createBooking();
     }
 
@@ -78,6 +80,33 @@ class BookingServiceImplTest {
         // verify(bookingRepository, times(1)).save(booking);
     }
 
+    @Test
+    void saveOverlappingBookingTest() {
+        booking.setStatus(WAITING);
+        booking.setStart(LocalDateTime.now().plusDays(1));
+        booking.setEnd(LocalDateTime.now().plusDays(3));
+        when(userRepository.existsById(booking.getBooker().getId())).thenReturn(true);
+        when(itemRepository.existsById(booking.getItem().getId())).thenReturn(true);
+        when(userRepository.findById(booking.getBooker().getId()))
+                .thenReturn(Optional.of(booking.getBooker()));
+        when(itemRepository.findById(booking.getItem().getId()))
+                .thenReturn(Optional.of(booking.getItem()));
+        when(bookingRepository.save(any(Booking.class)))
+                .thenReturn(booking);
+
+        bookingService.save(toBookingDtoSimple(booking), booking.getBooker().getId());
+
+        var overlapping = toBookingDtoSimple(booking);
+        overlapping.setId(null);
+        overlapping.setStart(booking.getStart().plusDays(1));
+        overlapping.setEnd(booking.getEnd().plusDays(1));
+
+        var exception = assertThrows(BookingTransactionException.class,
+                () -> bookingService.save(overlapping, booking.getBooker().getId()));
+        assertNotNull(exception.getMessage());
+        verify(bookingRepository, times(1)).save(any(Booking.class));
+    }
+
     @Test
     void updateBookingTest() {
         Booking booking2 = createBooking();
@@ -100,11 +129,12 @@ class BookingServiceImplTest {
 
     @Test
     void deleteBookingByIdTest() {
-        when(bookingRepository.existsById(booking.getId())).thenReturn(true);
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
 
         bookingService.deleteById(booking.getId());
 
-        verify(bookingRepository, times(1)).deleteById(booking.getId());
+        verify(bookingRepository, times(1)).delete(booking);
+        verify(bookingRepository, never()).existsById(any());
     }
 
     @Test
@@ -140,7 +170,7 @@ class BookingServiceImplTest {
         when(userRepository.findById(booking.getBooker().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
         when(bookingRepository.findByBookerId(booking.getBooker().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+                PageRequest.of(0, 20, Sort.by("start", "id").descending())))
                 .thenReturn(Collections.singletonList(booking));
 
         var bookingDtoList = new ArrayList<>(bookingService
@@ -151,7 +181,7 @@ class BookingServiceImplTest {
         assertEquals(booking.getItem().getName(), bookingDtoList.get(0).getItem().getName());
         verify(bookingRepository, times(1))
                 .findByBookerId(booking.getBooker().getId(),
-                        PageRequest.of(0, 20, Sort.by("start").descending()));
+                        PageRequest.of(0, 20, Sort.by("start", "id").descending()));
     }
 
     @Test
@@ -162,7 +192,7 @@ class BookingServiceImplTest {
                 .thenReturn(Optional.of(booking.getBooker()));
         when(bookingRepository.findBookingsByBookerIdAndStatus(booking.getBooker().getId(),
                 WAITING,
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+                PageRequest.of(0, 20, Sort.by("start", "id").descending())))
                 .thenReturn(Collections.singletonList(booking));
 
         var bookings = new ArrayList<>(bookingService
@@ -175,7 +205,7 @@ class BookingServiceImplTest {
         verify(bookingRepository, times(1))
                 .findBookingsByBookerIdAndStatus(booking.getBooker().getId(),
                         WAITING,
-                        PageRequest.of(0, 20, Sort.by("start").descending()));
+                        PageRequest.of(0, 20, Sort.by("start", "id").descending()));
     }
 
     @Test
@@ -186,7 +216,7 @@ class BookingServiceImplTest {
                 .thenReturn(Optional.of(booking.getBooker()));
         when(bookingRepository.findBookingsByBookerIdAndStatus(booking.getBooker().getId(),
                 REJECTED,
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+                PageRequest.of(0, 20, Sort.by("start", "id").descending())))
                 .thenReturn(Collections.singletonList(booking));
 
         var bookings = new ArrayList<>(bookingService
@@ -199,7 +229,7 @@ class BookingServiceImplTest {
         verify(bookingRepository, times(1))
                 .findBookingsByBookerIdAndStatus(booking.getBooker().getId(),
                         REJECTED,
-                        PageRequest.of(0, 20, Sort.by("start").descending()));
+                        PageRequest.of(0, 20, Sort.by("start", "id").descending()));
 
         var incorrectState = "error";
         var exception = assertThrows(EnumStateException.class,
@@ -209,6 +239,54 @@ class BookingServiceImplTest {
         assertNotNull(exception.getMessage());
     }
 
+    @Test
+    void findAllAfterCursorTest() {
+        var cursor = new Cursor(LocalDateTime.parse("2022-10-01T10:00"), 5L);
+        when(userRepository.existsById(booking.getBooker().getId())).thenReturn(true);
+        when(bookingRepository.findByBookerIdBefore(booking.getBooker().getId(), cursor.getTime(), cursor.getId(),
+                PageRequest.of(0, 20)))
+                .thenReturn(Collections.singletonList(booking));
+
+        var bookings = new ArrayList<>(bookingService
+                .findAllAfter(booking.getBooker().getId(), "ALL", cursor, 20));
+
+        assertEquals(1, bookings.size());
+        assertEquals(booking.getId(), bookings.get(0).getId());
+        verify(bookingRepository, times(1))
+                .findByBookerIdBefore(booking.getBooker().getId(), cursor.getTime(), cursor.getId(),
+                        PageRequest.of(0, 20));
+
+        var exception = assertThrows(EnumStateException.class,
+                () -> bookingService.findAllAfter(booking.getBooker().getId(), "error", cursor, 20));
+        assertNotNull(exception.getMessage());
+    }
+
+    @Test
+    void findAllByItemOwnerIdAfterCursorTest() {
+        booking.setStatus(WAITING);
+        var ownerId = booking.getItem().getOwner().getId();
+        var cursor = new Cursor(LocalDateTime.parse("2022-10-01T10:00"), 5L);
+        when(userRepository.existsById(ownerId)).thenReturn(true);
+        when(itemRepository.existsByOwnerId(ownerId)).thenReturn(true);
+        when(bookingRepository.findByItemOwnerIdAndStatusBefore(ownerId, cursor.getTime(), cursor.getId(),
+                WAITING, PageRequest.of(0, 20)))
+                .thenReturn(Collections.singletonList(booking));
+
+        var bookings = new ArrayList<>(bookingService
+                .findAllByItemOwnerIdAfter(ownerId, "WAITING", cursor, 20));
+
+        assertEquals(1, bookings.size());
+        assertEquals(WAITING, bookings.get(0).getStatus());
+    }
+
+    @Test
+    void cursorEncodeDecodeTest() {
+        var cursor = new Cursor(LocalDateTime.parse("2022-10-01T10:00:15.123"), 42L);
+
+        assertEquals(cursor, Cursor.decode(cursor.encode()));
+        assertThrows(ValidationException.class, () -> Cursor.decode("not a cursor"));
+    }
+
     @Test
     void getAllByBookerWithStatePast() {
         final LocalDateTime date = LocalDateTime.now();
@@ -266,6 +344,27 @@ class BookingServiceImplTest {
         assertNotNull(thrown.getMessage());
     }
 
+    @Test
+    void updateOntoAnotherBookingShouldThrowExceptionTest() {
+        booking.setStart(LocalDateTime.now().plusDays(1));
+        booking.setEnd(LocalDateTime.now().plusDays(3));
+        var other = new Booking(2L, booking.getEnd().plusDays(1), booking.getEnd().plusDays(2), booking.getItem(),
+                booking.getBooker(), WAITING);
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(bookingRepository.findById(other.getId())).thenReturn(Optional.of(other));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        bookingService.update(booking.getId(), toBookingDto(booking));
+        bookingService.update(other.getId(), toBookingDto(other));
+
+        var patch = new BookingDto();
+        patch.setStart(booking.getStart().plusDays(1));
+        var exception = assertThrows(BookingTransactionException.class,
+                () -> bookingService.update(other.getId(), patch));
+
+        assertNotNull(exception.getMessage());
+        verify(bookingRepository, times(2)).save(any(Booking.class));
+    }
+
     @Test
     void approveBookingTest() {
         var bookingId = booking.getId();
@@ -361,8 +460,9 @@ class BookingServiceImplTest {
         when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
         when(userRepository.findById(booking.getItem().getOwner().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
-        when(bookingRepository.searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(true);
+        when(bookingRepository.findByItemOwnerId(booking.getItem().getOwner().getId(),
+                PageRequest.of(0, 20, Sort.by("start", "id").descending())))
                 .thenReturn(Collections.singletonList(booking));
 
         var expected = new ArrayList<>(bookingService
@@ -373,8 +473,8 @@ class BookingServiceImplTest {
         assertEquals(1, expected.size());
         assertEquals(bookingDto, expected.get(0));
         verify(bookingRepository, times(1))
-                .searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                        PageRequest.of(0, 20, Sort.by("start").descending()));
+                .findByItemOwnerId(booking.getItem().getOwner().getId(),
+                        PageRequest.of(0, 20, Sort.by("start", "id").descending()));
     }
 
     @Test
@@ -382,8 +482,9 @@ class BookingServiceImplTest {
         when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
         when(userRepository.findById(booking.getItem().getOwner().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
-        when(bookingRepository.searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(true);
+        when(bookingRepository.searchBookingByItemOwnerIdAndStartIsAfter(eq(booking.getItem().getOwner().getId()),
+                any(), eq(PageRequest.of(0, 20, Sort.by("start", "id").descending()))))
                 .thenReturn(Collections.singletonList(booking));
 
         var bookings = new ArrayList<>(bookingService
@@ -398,8 +499,9 @@ class BookingServiceImplTest {
         when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
         when(userRepository.findById(booking.getItem().getOwner().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
-        when(bookingRepository.searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(true);
+        when(bookingRepository.findBookingsByItemOwnerIdAndEndIsBefore(eq(booking.getItem().getOwner().getId()),
+                any(), eq(PageRequest.of(0, 20, Sort.by("start", "id").descending()))))
                 .thenReturn(Collections.singletonList(booking));
 
         var bookings = new ArrayList<>(bookingService
@@ -414,15 +516,31 @@ class BookingServiceImplTest {
         when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
         when(userRepository.findById(booking.getItem().getOwner().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
-        when(bookingRepository.searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(true);
+        booking.setStatus(WAITING);
+        when(bookingRepository.findBookingsByItemOwnerIdAndStatus(booking.getItem().getOwner().getId(),
+                WAITING, PageRequest.of(0, 20, Sort.by("start", "id").descending())))
                 .thenReturn(Collections.singletonList(booking));
 
         var bookings = new ArrayList<>(bookingService
                 .findAllByItemOwnerId(booking.getItem().getOwner().getId(),
                         "WAITING", 0, 20));
 
-        assertNotEquals(bookings, null);
+        assertEquals(1, bookings.size());
+        assertEquals(WAITING, bookings.get(0).getStatus());
+        verify(bookingRepository, never()).findByItemOwnerId(anyLong(), any());
+    }
+
+    @Test
+    void getAllByOwnerWithoutItemsTest() {
+        when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(false);
+
+        var exception = assertThrows(EntityNotFoundException.class,
+                () -> bookingService.findAllByItemOwnerId(booking.getItem().getOwner().getId(), "ALL", 0, 20));
+
+        assertNotNull(exception.getMessage());
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -437,9 +555,7 @@ class BookingServiceImplTest {
         when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
         when(userRepository.findById(booking.getItem().getOwner().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
-        when(bookingRepository.searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
-                .thenReturn(Collections.singletonList(booking));
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(true);
 
         var bookings = new ArrayList<>(bookingService
                 .findAllByItemOwnerId(booking.getItem().getOwner().getId(),
@@ -453,9 +569,7 @@ class BookingServiceImplTest {
         when(userRepository.existsById(booking.getItem().getOwner().getId())).thenReturn(true);
         when(userRepository.findById(booking.getItem().getOwner().getId()))
                 .thenReturn(Optional.of(booking.getBooker()));
-        when(bookingRepository.searchBookingByItemOwnerId(booking.getItem().getOwner().getId(),
-                PageRequest.of(0, 20, Sort.by("start").descending())))
-                .thenReturn(Collections.singletonList(booking));
+        when(itemRepository.existsByOwnerId(booking.getItem().getOwner().getId())).thenReturn(true);
 
         var bookings = new ArrayList<>(bookingService
                 .findAllByItemOwnerId(booking.getItem().getOwner().getId(),
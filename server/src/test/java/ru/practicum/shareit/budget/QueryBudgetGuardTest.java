@@ -0,0 +1,103 @@
+package ru.practicum.shareit.budget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import ru.practicum.shareit.exception.QueryBudgetExceededException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+        "shareit.query-budget.mode=fail",
+        "shareit.query-budget.endpoints.[/users]=0"
+})
+@AutoConfigureMockMvc
+class QueryBudgetGuardTest {
+
+    private static final int OWNED_ITEMS = 15;
+    private static final long OWNER = 1;
+    private static final long BOOKER = OWNED_ITEMS + 2;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("select count(*) from users", Long.class) > 0) {
+            return;
+        }
+        var past = Timestamp.valueOf(LocalDateTime.now().minusDays(10));
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        for (long user = 1; user <= BOOKER; user++) {
+            jdbcTemplate.update("insert into users (name, email) values (?, ?)", "user" + user, user + "@mail.ru");
+        }
+        jdbcTemplate.update("insert into requests (description, user_id, created) values (?, ?, ?)",
+                "Нужна drill", BOOKER, now);
+        for (long item = 1; item <= 2 * OWNED_ITEMS; item++) {
+            var owner = item <= OWNED_ITEMS ? OWNER : item - OWNED_ITEMS + 1;
+            jdbcTemplate.update("insert into items (name, description, available, owner_id, request_id) "
+                    + "values (?, ?, true, ?, ?)", "Drill " + item, "drill", owner, item > OWNED_ITEMS ? 1 : null);
+        }
+        for (long item = 1; item <= OWNED_ITEMS; item++) {
+            var booker = item + 1;
+            jdbcTemplate.update("insert into bookings (start_date, end_date, item_id, booker_id, status) "
+                    + "values (?, ?, ?, ?, 'APPROVED')", past, now, item, booker);
+            jdbcTemplate.update("insert into bookings (start_date, end_date, item_id, booker_id, status) "
+                    + "values (?, ?, ?, ?, 'APPROVED')", past, now, item + OWNED_ITEMS, BOOKER);
+            jdbcTemplate.update("insert into comments (comment_text, item_id, author_id, created) values (?, ?, ?, ?)",
+                    "Отлично", 1, booker, now);
+        }
+    }
+
+    @Test
+    void listEndpointsStayWithinBudgetTest() throws Exception {
+        mvc.perform(get("/bookings").header("X-Sharer-User-Id", BOOKER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(OWNED_ITEMS));
+        mvc.perform(get("/bookings/owner").header("X-Sharer-User-Id", OWNER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(OWNED_ITEMS));
+        mvc.perform(get("/items").header("X-Sharer-User-Id", OWNER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(OWNED_ITEMS));
+        mvc.perform(get("/items/search").param("text", "drill").header("X-Sharer-User-Id", OWNER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(20));
+        mvc.perform(get("/items/1").header("X-Sharer-User-Id", OWNER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(OWNED_ITEMS));
+        mvc.perform(get("/requests").header("X-Sharer-User-Id", BOOKER))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].items.length()").value(OWNED_ITEMS));
+        mvc.perform(get("/requests/all").header("X-Sharer-User-Id", OWNER))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void exceededBudgetFailsRequestTest() throws Exception {
+        mvc.perform(get("/users").header("X-Sharer-User-Id", OWNER))
+                .andExpect(budgetExceeded());
+    }
+
+    private static ResultMatcher budgetExceeded() {
+        return ResultMatcher.matchAll(
+                status().isInternalServerError(),
+                result -> assertInstanceOf(QueryBudgetExceededException.class, result.getResolvedException()),
+                jsonPath("$.message").isNotEmpty());
+    }
+}
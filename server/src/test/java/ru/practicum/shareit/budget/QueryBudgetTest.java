@@ -0,0 +1,97 @@
+package ru.practicum.shareit.budget;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.QueryBudgetExceededException;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBudgetTest {
+
+    private static final String USER_BY_ID = "select user0_.id as id1_4_0_ from users user0_ where user0_.id=?";
+
+    @AfterEach
+    void tearDown() {
+        var budget = QueryBudget.current();
+        if (budget != null) {
+            budget.stop();
+        }
+    }
+
+    @Test
+    void normalizesLiteralsAndInListsTest() {
+        assertEquals("select * from items where id in (?) and name like ?",
+                QueryBudget.normalize("SELECT *\n  FROM items WHERE id IN (?, ?, ?) AND name LIKE 'дрель'"));
+        assertEquals(QueryBudget.normalize("select * from users where id = 1"),
+                QueryBudget.normalize("select * from users where id = 2"));
+        assertEquals("select item0_.id as id1_3_0_ from items item0_",
+                QueryBudget.normalize("select item0_.id as id1_3_0_ from items item0_"));
+    }
+
+    @Test
+    void normalizesIndependentlyOfDefaultLocaleTest() {
+        var defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("select id from items where title = ?",
+                    QueryBudget.normalize("SELECT ID FROM ITEMS WHERE TITLE = 'дрель'"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void detectsBudgetOverrunTest() {
+        var budget = QueryBudget.start("/items", 2, 3);
+
+        budget.record("select * from items");
+        budget.record("select * from bookings");
+        assertTrue(budget.violation().isEmpty());
+
+        budget.record("select * from comments");
+        assertTrue(budget.isExceeded());
+        assertTrue(budget.violation().orElseThrow().contains("бюджете 2"));
+    }
+
+    @Test
+    void detectsRepeatedStatementsTest() {
+        var budget = QueryBudget.start("/bookings", 100, 3);
+
+        for (int i = 0; i < 4; i++) {
+            budget.record(USER_BY_ID);
+        }
+
+        assertTrue(budget.isRepeated());
+        assertEquals(4, budget.getRepeats());
+        assertTrue(budget.violation().orElseThrow().contains("N+1"));
+    }
+
+    @Test
+    void failModeThrowsOnceTest() {
+        var inspector = new QueryBudgetInspector(properties(QueryBudgetProperties.Mode.FAIL));
+        QueryBudget.start("/bookings", 100, 1);
+
+        inspector.inspect(USER_BY_ID);
+        assertThrows(QueryBudgetExceededException.class, () -> inspector.inspect(USER_BY_ID));
+        assertEquals(USER_BY_ID, inspector.inspect(USER_BY_ID));
+    }
+
+    @Test
+    void logModeAndStatementsOutsideRequestPassTest() {
+        var inspector = new QueryBudgetInspector(properties(QueryBudgetProperties.Mode.LOG));
+
+        assertEquals(USER_BY_ID, inspector.inspect(USER_BY_ID));
+
+        var budget = QueryBudget.start("/bookings", 0, 0);
+        assertEquals(USER_BY_ID, inspector.inspect(USER_BY_ID));
+        assertTrue(budget.violation().isPresent());
+    }
+
+    private static QueryBudgetProperties properties(QueryBudgetProperties.Mode mode) {
+        var properties = new QueryBudgetProperties();
+        properties.setMode(mode);
+        return properties;
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:second-level-cache;DB_CLOSE_DELAY=-1")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void userLookupsByIdHitCacheTest() {
+        var user = userService.save(new UserDto(null, "Кеш", "cache@mail.ru"));
+        userService.getById(user.getId());
+        statistics.clear();
+
+        userService.getById(user.getId());
+        assertTrue(userRepository.existsById(user.getId()));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("users").getHitCount());
+        assertTrue(meterRegistry.get(SecondLevelCacheMetrics.HIT_RATIO_METRIC).tag("region", "users").gauge()
+                .value() > 0);
+    }
+
+    @Test
+    void updatesAndDeletesEvictCachedEntitiesTest() {
+        var owner = userService.save(new UserDto(null, "Владелец", "owner@mail.ru"));
+        var item = itemService.save(owner.getId(), new ItemDto(null, "Дрель", "Мощная", true, null));
+        userService.getById(owner.getId());
+        itemRepository.findById(item.getId());
+        var cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(User.class, owner.getId()));
+        assertTrue(cache.contains(Item.class, item.getId()));
+
+        itemService.update(owner.getId(), item.getId(), new ItemDto(null, null, "Очень мощная", null, null));
+        assertFalse(cache.contains(Item.class, item.getId()));
+        assertEquals("Очень мощная", itemRepository.findById(item.getId()).orElseThrow().getDescription());
+
+        userService.update(owner.getId(), new UserDto(null, "Новый владелец", null));
+        assertFalse(cache.contains(User.class, owner.getId()));
+        assertEquals("Новый владелец", userService.getById(owner.getId()).getName());
+
+        itemService.deleteById(item.getId());
+        assertFalse(cache.contains(Item.class, item.getId()));
+        assertTrue(itemRepository.findById(item.getId()).isEmpty());
+    }
+}
@@ -3,6 +3,8 @@ package ru.practicum.shareit.error;
 import org.junit.jupiter.api.Test;
 import ru.practicum.shareit.exception.*;
 
+import javax.validation.ValidationException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -47,4 +49,14 @@ class ErrorHandlerTest {
         assertNotNull(response);
         assertEquals(response.getMessage(), exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleValidationExceptionTest() {
+        var exception = new ValidationException("BAD_REQUEST");
+
+        ErrorResponse response = errorHandler.handleValidationException(exception);
+
+        assertNotNull(response);
+        assertEquals(response.getMessage(), exception.getMessage());
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InMemoryItemSearchIndexTest {
+
+    private ItemRepository itemRepository;
+    private InMemoryItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findAllAvailableForSearch()).thenReturn(List.of(
+                new ItemDto(1L, "Дрель", "Простая дрель", true, null),
+                new ItemDto(2L, "Отвертка", "Аккумуляторная отвертка", true, null),
+                new ItemDto(3L, "Дрель+", "Аккумуляторная дрель", true, null)));
+        index = new InMemoryItemSearchIndex(itemRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void findsSubstringsInNameAndDescriptionTest() {
+        assertEquals(List.of(1L, 3L), index.findIds("дрель", 0, 10));
+        assertEquals(List.of(2L, 3L), index.findIds("умулятор", 0, 10));
+        assertEquals(List.of(1L), index.findIds("прост", 0, 10));
+        assertTrue(index.findIds("дрельщик", 0, 10).isEmpty());
+    }
+
+    @Test
+    void findsShortQueriesByGramPrefixTest() {
+        assertEquals(List.of(1L, 3L), index.findIds("др", 0, 10));
+        assertEquals(List.of(3L), index.findIds("+", 0, 10));
+        assertEquals(List.of(1L, 2L, 3L), index.findIds("р", 0, 10));
+    }
+
+    @Test
+    void pagesByIdTest() {
+        assertEquals(List.of(2L), index.findIds("р", 1, 1));
+        assertEquals(List.of(3L), index.findIds("дрель", 1, 5));
+    }
+
+    @Test
+    void pagesShortQueriesAcrossManyGramsTest() {
+        var random = new Random(42);
+        var items = new ArrayList<ItemDto>();
+        for (long id = 1; id <= 300; id++) {
+            var name = new StringBuilder();
+            for (int i = 0; i < 6; i++) {
+                name.append("абвгд".charAt(random.nextInt(5)));
+            }
+            items.add(new ItemDto(id, name.toString(), "вещь", true, null));
+        }
+        when(itemRepository.findAllAvailableForSearch()).thenReturn(items);
+        index.rebuild();
+
+        for (String query : List.of("а", "бг", "щ")) {
+            var expected = items.stream()
+                    .filter(item -> item.getName().contains(query) || item.getDescription().contains(query))
+                    .map(ItemDto::getId)
+                    .collect(Collectors.toList());
+            for (int offset : List.of(0, 7, 100, 290)) {
+                assertEquals(expected.subList(Math.min(offset, expected.size()),
+                                Math.min(offset + 20, expected.size())),
+                        index.findIds(query, offset, 20), query + " с " + offset);
+            }
+        }
+    }
+
+    @Test
+    void indexAndRemoveUpdateResultsTest() {
+        index.index(new Item(4L, "Дрель ударная", "Мощная", true, null, null));
+        index.index(new Item(1L, "Молоток", "Простой", true, null, null));
+        index.index(new Item(3L, "Дрель+", "Аккумуляторная дрель", false, null, null));
+        index.remove(2L);
+
+        assertEquals(List.of(4L), index.findIds("дрель", 0, 10));
+        assertEquals(List.of(1L), index.findIds("молот", 0, 10));
+        assertTrue(index.findIds("отвертка", 0, 10).isEmpty());
+    }
+
+    @Test
+    void searchHydratesOnlyPageTest() {
+        var item = new Item(3L, "Дрель+", "Аккумуляторная дрель", true, null, null);
+        when(itemRepository.findAllByIdIn(List.of(3L))).thenReturn(List.of(item));
+
+        var result = index.search("ДРЕЛЬ", PageRequest.of(1, 1));
+
+        assertEquals(List.of(item), result);
+        verify(itemRepository, times(1)).findAllByIdIn(List.of(3L));
+        assertTrue(index.search("пила", PageRequest.of(0, 10)).isEmpty());
+        verify(itemRepository, times(1)).findAllByIdIn(any());
+    }
+}
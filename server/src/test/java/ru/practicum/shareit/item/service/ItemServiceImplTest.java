@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.item.model.CommentDto;
 import ru.practicum.shareit.item.model.ItemDto;
@@ -16,6 +17,8 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.LikeItemSearchIndex;
+import ru.practicum.shareit.request.matching.RequestItemMatcher;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -34,8 +37,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.booking.mapper.BookingMapper.toBookingDtoForItem;
 import static ru.practicum.shareit.item.mapper.CommentMapper.toCommentDto;
 import static ru.practicum.shareit.item.mapper.ItemMapper.toItemDto;
 
@@ -68,8 +74,9 @@ public class ItemServiceImplTest {
         commentRepository = mock(CommentRepository.class);
         userRepository = mock(UserRepository.class);
 
-        itemService = new ItemServiceImpl(
-                itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
+        itemService = new ItemServiceImpl(itemRepository, userRepository, bookingRepository, commentRepository,
+                itemRequestRepository, new LikeItemSearchIndex(itemRepository), Optional.of(mock(RequestItemMatcher.class)),
+                mock(EntityCacheEvictor.class));
 
         booker = new User(2L, "user2", "user2@mail.ru");
         owner = new User(1L, "user1", "user1@mail.ru");
@@ -120,6 +127,18 @@ public class ItemServiceImplTest {
         assertThat(expected.getDescription(), equalTo(actual.getDescription()));
     }
 
+    @Test
+    void updateItemLoadsItemOnceTest() {
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+        when(itemRepository.save(any())).thenReturn(item);
+
+        itemService.update(owner.getId(), item.getId(), new ItemDto(null, "Дрель", null, null, null));
+
+        verify(itemRepository, times(1)).findById(item.getId());
+        verify(itemRepository, never()).existsById(any());
+        verify(userRepository, never()).existsById(any());
+    }
+
     @Test
     void updateItemWithNullFieldsTest() {
         when(userRepository.existsById(owner.getId())).thenReturn(true);
@@ -141,11 +160,11 @@ public class ItemServiceImplTest {
 
     @Test
     void deleteItemTest() {
-        when(itemRepository.existsById(item.getId())).thenReturn(true);
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
 
         itemService.deleteById(item.getId());
 
-        verify(itemRepository, times(1)).deleteById(item.getId());
+        verify(itemRepository, times(1)).delete(item);
     }
 
     @Test
@@ -161,9 +180,16 @@ public class ItemServiceImplTest {
 
         when(userRepository.findById(any())).thenReturn(Optional.ofNullable(owner));
 
+        when(bookingRepository.findLastBookingsByItemIds(eq(List.of(item.getId())), any()))
+                .thenReturn(List.of(toBookingDtoForItem(lastBooking)));
+        when(bookingRepository.findNextBookingsByItemIds(eq(List.of(item.getId())), any()))
+                .thenReturn(List.of(toBookingDtoForItem(nextBooking)));
+
         var expected = itemService.findById(item.getId(), owner.getId());
 
         assertThat(expected, notNullValue());
+        assertThat(expected.getLastBooking().getId(), equalTo(lastBooking.getId()));
+        assertThat(expected.getNextBooking().getId(), equalTo(nextBooking.getId()));
         assertThat(expected.getId(), equalTo(item.getId()));
         assertThat(expected.getName(), equalTo(item.getName()));
         assertThat(expected.getDescription(), equalTo(item.getDescription()));
@@ -177,7 +203,7 @@ public class ItemServiceImplTest {
     @Test
     void findAllItemsTest() {
         when(userRepository.existsById(owner.getId())).thenReturn(true);
-        when(commentRepository.findAllByItemId(item.getId()))
+        when(commentRepository.findAllByItemIdIn(List.of(item.getId())))
                 .thenReturn(Collections.singletonList(comment));
         when(itemRepository.findByOwnerId(item.getOwner().getId(), PageRequest.of(0, 20)))
                 .thenReturn(Collections.singletonList(item));
@@ -187,10 +213,45 @@ public class ItemServiceImplTest {
         assertThat(expected, hasItems());
         assertEquals(1, expected.size());
         assertEquals(item.getName(), expected.get(0).getName());
+        assertEquals(1, expected.get(0).getComments().size());
         verify(itemRepository, times(1))
                 .findByOwnerId(item.getOwner().getId(), PageRequest.of(0, 20));
     }
 
+    @Test
+    void findAllItemsLoadsBookingsAndCommentsInBatchTest() {
+        var secondItem = new Item(2L, "Вторая вещь", "Описание второй вещи", true, owner, null);
+        var secondComment = new Comment(2L, "Второй комментарий", secondItem, booker, LocalDateTime.now());
+
+        when(userRepository.existsById(owner.getId())).thenReturn(true);
+        when(itemRepository.findByOwnerId(owner.getId(), PageRequest.of(0, 20)))
+                .thenReturn(List.of(secondItem, item));
+        when(bookingRepository.findLastBookingsByItemIds(anyCollection(), any()))
+                .thenReturn(List.of(toBookingDtoForItem(lastBooking)));
+        when(bookingRepository.findNextBookingsByItemIds(anyCollection(), any()))
+                .thenReturn(List.of(toBookingDtoForItem(nextBooking)));
+        when(commentRepository.findAllByItemIdIn(anyCollection()))
+                .thenReturn(List.of(comment, secondComment));
+
+        var expected = new ArrayList<>(itemService.findAll(owner.getId(), 0, 20));
+
+        assertEquals(2, expected.size());
+        assertEquals(item.getId(), expected.get(0).getId());
+        assertEquals(lastBooking.getId(), expected.get(0).getLastBooking().getId());
+        assertEquals(nextBooking.getId(), expected.get(0).getNextBooking().getId());
+        assertEquals(comment.getText(), expected.get(0).getComments().get(0).getText());
+        assertNull(expected.get(1).getLastBooking());
+        assertNull(expected.get(1).getNextBooking());
+        assertEquals(secondComment.getText(), expected.get(1).getComments().get(0).getText());
+
+        verify(bookingRepository, times(1))
+                .findLastBookingsByItemIds(eq(List.of(secondItem.getId(), item.getId())), any());
+        verify(bookingRepository, times(1))
+                .findNextBookingsByItemIds(anyCollection(), any());
+        verify(commentRepository, times(1)).findAllByItemIdIn(anyCollection());
+        verify(commentRepository, never()).findAllByItemId(anyLong());
+    }
+
     @Test
     void searchItemsTest() {
         var pageable = PageRequest.of(0, 10);
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcRequestMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcRequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:jdbc-metrics;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(ProxyDataSourceBuilder.create(h2)
+                .listener(new JdbcStatementMetrics(meterRegistry))
+                .build());
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS things (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.update("DELETE FROM things");
+        filter = new JdbcRequestMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    void countsStatementsPerRequestTest() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/items/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+            jdbcTemplate.update("INSERT INTO things (id) VALUES (1)");
+            for (int i = 0; i < 3; i++) {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM things", Long.class);
+            }
+        });
+
+        var statements = meterRegistry.get(JdbcRequestMetricsFilter.REQUEST_STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/items/{itemId}")
+                .summary();
+        assertEquals(1, statements.count());
+        assertEquals(4, statements.totalAmount());
+        assertTrue(meterRegistry.get(JdbcRequestMetricsFilter.REQUEST_TIME_METRIC).timer()
+                .totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(3, meterRegistry.get(JdbcStatementMetrics.STATEMENT_METRIC).tag("type", "select").timer().count());
+        assertEquals(1, meterRegistry.get(JdbcStatementMetrics.STATEMENT_METRIC).tag("type", "insert").timer().count());
+    }
+
+    @Test
+    void statementsOutsideRequestAreNotAttributedTest() throws Exception {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM things", Long.class);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(),
+                (req, res) -> {
+                });
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM things", Long.class);
+
+        var statements = meterRegistry.get(JdbcRequestMetricsFilter.REQUEST_STATEMENTS_METRIC)
+                .tags("uri", "UNKNOWN")
+                .summary();
+        assertEquals(0, statements.totalAmount());
+        assertNull(RequestStatements.current());
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.EnumStateException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingService target;
+    private BookingService bookingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = mock(BookingService.class);
+        var factory = new AspectJProxyFactory(target);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        bookingService = factory.getProxy();
+    }
+
+    @Test
+    void timesMethodTaggedByStateTest() {
+        when(target.findAll(1L, "CURRENT", 0, 10)).thenReturn(List.of());
+
+        bookingService.findAll(1L, "CURRENT", 0, 10);
+        bookingService.findAll(1L, "CURRENT", 0, 10);
+
+        var timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_METRIC)
+                .tags("service", "BookingService", "method", "findAll", "state", "CURRENT", "exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void recordsFailuresWithBoundedStateTest() {
+        when(target.findAllByItemOwnerId(1L, "Кое-что", 0, 10)).thenThrow(new EnumStateException("Unknown state"));
+
+        assertThrows(EnumStateException.class, () -> bookingService.findAllByItemOwnerId(1L, "Кое-что", 0, 10));
+
+        var timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_METRIC)
+                .tags("method", "findAllByItemOwnerId", "state", "UNKNOWN", "exception", "EnumStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void methodsWithoutStateAreTaggedNoneTest() {
+        bookingService.findById(1L, 2L);
+
+        var timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_METRIC)
+                .tags("method", "findById", "state", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+}
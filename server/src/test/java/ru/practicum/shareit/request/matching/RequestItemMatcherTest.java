@@ -0,0 +1,144 @@
+package ru.practicum.shareit.request.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestDto;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RequestItemMatcherTest {
+
+    private ItemRepository itemRepository;
+    private RequestItemMatcher matcher;
+    private User owner;
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        var itemRequestRepository = mock(ItemRequestRepository.class);
+        when(itemRepository.findAllAvailableForSearch()).thenReturn(List.of(
+                new ItemDto(1L, "Дрель", "Простая дрель", true, null),
+                new ItemDto(2L, "Отвертка", "Аккумуляторная отвертка", true, null),
+                new ItemDto(3L, "Дрель+", "Аккумуляторная дрель", true, null),
+                new ItemDto(4L, "Стремянка", "Алюминиевая стремянка", true, null)));
+        when(itemRequestRepository.findAllForMatching()).thenReturn(List.of(
+                new ItemRequestDto(10L, "Нужна дрель для ремонта", LocalDateTime.now())));
+        Executor direct = Runnable::run;
+        matcher = new RequestItemMatcher(itemRepository, itemRequestRepository, direct, 5, 0.3);
+        matcher.rebuild();
+
+        owner = new User(1L, "owner", "owner@mail.ru");
+        requester = new User(2L, "requester", "requester@mail.ru");
+    }
+
+    @Test
+    void matchesExistingRequestsOnRebuildTest() {
+        assertEquals(List.of(1L, 3L), matcher.findSuggestedItemIds(10L));
+    }
+
+    @Test
+    void matchesNewRequestAgainstCatalogTest() {
+        matcher.requestSaved(new ItemRequest(11L, "Ищу стремянку повыше", LocalDateTime.now(), requester));
+
+        assertEquals(List.of(4L), matcher.findSuggestedItemIds(11L));
+    }
+
+    @Test
+    void matchesNewItemAgainstOpenRequestsTest() {
+        matcher.itemSaved(new Item(5L, "Перфоратор", "Мощная дрель-перфоратор", true, owner, null));
+
+        assertTrue(matcher.findSuggestedItemIds(10L).contains(5L));
+        assertEquals(3, matcher.findSuggestedItemIds(10L).size());
+    }
+
+    @Test
+    void dropsUnavailableAndRemovedItemsTest() {
+        matcher.itemSaved(new Item(1L, "Дрель", "Простая дрель", false, owner, null));
+        matcher.itemRemoved(3L);
+
+        assertTrue(matcher.findSuggestedItemIds(10L).isEmpty());
+    }
+
+    @Test
+    void dropsItemsThatStopMatchingAfterUpdateTest() {
+        matcher.itemSaved(new Item(1L, "Дрель", "Простая дрель", true, owner, null));
+        matcher.itemSaved(new Item(3L, "Шуруповерт", "Аккумуляторный шуруповерт", true, owner, null));
+
+        assertEquals(List.of(1L), matcher.findSuggestedItemIds(10L));
+    }
+
+    @Test
+    void reranksItemsWithWeakerDescriptionTest() {
+        matcher.requestSaved(new ItemRequest(12L, "Аккумуляторная дрель", LocalDateTime.now(), requester));
+        assertEquals(3L, matcher.findSuggestedItemIds(12L).get(0));
+
+        matcher.itemSaved(new Item(3L, "Дрель+", "Простая дрель", true, owner, null));
+
+        var suggested = matcher.findSuggestedItemIds(12L);
+        assertNotEquals(3L, suggested.get(0));
+        assertTrue(suggested.contains(3L));
+    }
+
+    @Test
+    void keepsOnlyBestSuggestionsTest() {
+        var limited = new RequestItemMatcher(itemRepository, mock(ItemRequestRepository.class),
+                (Executor) Runnable::run, 1, 0.3);
+        limited.rebuild();
+        limited.requestSaved(new ItemRequest(12L, "Аккумуляторная дрель", LocalDateTime.now(), requester));
+
+        assertEquals(List.of(3L), limited.findSuggestedItemIds(12L));
+    }
+
+    @Test
+    void refillsSuggestionsWithNextBestItemAfterRemovalTest() {
+        var limited = new RequestItemMatcher(itemRepository, mock(ItemRequestRepository.class),
+                (Executor) Runnable::run, 1, 0.3);
+        limited.rebuild();
+        limited.requestSaved(new ItemRequest(12L, "Аккумуляторная дрель", LocalDateTime.now(), requester));
+
+        limited.itemRemoved(3L);
+
+        var suggested = limited.findSuggestedItemIds(12L);
+        assertEquals(1, suggested.size());
+        assertNotEquals(3L, suggested.get(0));
+    }
+
+    @Test
+    void refillsSuggestionsWhenItemStopsMatchingTest() {
+        var limited = new RequestItemMatcher(itemRepository, mock(ItemRequestRepository.class),
+                (Executor) Runnable::run, 1, 0.3);
+        limited.rebuild();
+        limited.itemSaved(new Item(5L, "Стремянка", "Высокая стремянка", true, owner, null));
+        limited.requestSaved(new ItemRequest(12L, "Нужна высокая стремянка", LocalDateTime.now(), requester));
+        assertEquals(List.of(5L), limited.findSuggestedItemIds(12L));
+
+        limited.itemSaved(new Item(5L, "Табурет", "Деревянный табурет", true, owner, null));
+
+        assertEquals(List.of(4L), limited.findSuggestedItemIds(12L));
+    }
+
+    @Test
+    void findSuggestedItemsSkipsRequesterItemsTest() {
+        var request = new ItemRequest(10L, "Нужна дрель для ремонта", LocalDateTime.now(), requester);
+        when(itemRepository.findAllByIdIn(List.of(1L, 3L))).thenReturn(List.of(
+                new Item(3L, "Дрель+", "Аккумуляторная дрель", true, requester, null),
+                new Item(1L, "Дрель", "Простая дрель", true, owner, null)));
+
+        var suggested = matcher.findSuggestedItems(request);
+
+        assertEquals(1, suggested.size());
+        assertEquals(1L, suggested.get(0).getId());
+    }
+}
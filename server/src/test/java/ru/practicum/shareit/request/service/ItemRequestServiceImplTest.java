@@ -2,30 +2,37 @@ package ru.practicum.shareit.request.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exception.EntityNotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemDto;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.matching.RequestItemMatcher;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utilities.Cursor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.item.mapper.ItemMapper.toItemDto;
 import static ru.practicum.shareit.request.mapper.ItemRequestMapper.toItemRequestDto;
 
 class ItemRequestServiceImplTest {
 
     private ItemRequestRepository itemRequestRepository;
+    private ItemRepository itemRepository;
     private UserRepository userRepository;
+    private RequestItemMatcher requestItemMatcher;
     private ItemRequestService itemRequestService;
     private ItemRequest itemRequest;
 
@@ -33,9 +40,11 @@ class ItemRequestServiceImplTest {
     void setUp() {
         userRepository = mock(UserRepository.class);
         itemRequestRepository = mock(ItemRequestRepository.class);
-        var itemRepository = mock(ItemRepository.class);
+        itemRepository = mock(ItemRepository.class);
+        requestItemMatcher = mock(RequestItemMatcher.class);
         var itemRequestMapper = new ItemRequestMapper(itemRepository);
-        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, itemRequestMapper, userRepository);
+        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, itemRequestMapper, userRepository,
+                Optional.of(requestItemMatcher));
         var user = new User(1L, "user", "user@mail.ru");
         itemRequest = new ItemRequest(1L, "itemRequest", LocalDateTime.now(), user);
     }
@@ -53,6 +62,7 @@ class ItemRequestServiceImplTest {
         assertEquals("user", itemRequest.getUser().getName());
         assertEquals(itemRequest.getId(), expected.getId());
         verify(itemRequestRepository, times(1)).save(any(ItemRequest.class));
+        verify(requestItemMatcher, times(1)).requestSaved(itemRequest);
     }
 
     @Test
@@ -73,6 +83,25 @@ class ItemRequestServiceImplTest {
                 .findAllByUserIdOrderByCreatedDesc(itemRequest.getUser().getId());
     }
 
+    @Test
+    void findAllLoadsItemsInOneQueryTest() {
+        var userId = itemRequest.getUser().getId();
+        var otherRequest = new ItemRequest(2L, "otherRequest", LocalDateTime.now(), itemRequest.getUser());
+        var item = new ItemDto(5L, "item", "description", true, otherRequest.getId());
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(itemRequestRepository.findAllByUserIdOrderByCreatedDesc(userId))
+                .thenReturn(List.of(itemRequest, otherRequest));
+        when(itemRepository.findAllByItemRequestIdIn(List.of(itemRequest.getId(), otherRequest.getId())))
+                .thenReturn(List.of(item));
+
+        var requests = new ArrayList<>(itemRequestService.findAll(userId));
+
+        assertEquals(2, requests.size());
+        assertTrue(requests.get(0).getItems().isEmpty());
+        assertEquals(List.of(item), requests.get(1).getItems());
+        verify(itemRepository, times(1)).findAllByItemRequestIdIn(any());
+    }
+
     @Test
     void findRequestByIdTest() {
         var itemRequestId = itemRequest.getId();
@@ -99,13 +128,29 @@ class ItemRequestServiceImplTest {
         verify(itemRequestRepository, times(1)).findById(itemRequestId);
     }
 
+    @Test
+    void findRequestByIdWithSuggestedItemsTest() {
+        var owner = new User(2L, "owner", "owner@mail.ru");
+        var suggested = new Item(5L, "Дрель", "Ударная дрель", true, owner, null);
+        when(userRepository.existsById(itemRequest.getUser().getId())).thenReturn(true);
+        when(itemRequestRepository.findById(itemRequest.getId())).thenReturn(Optional.of(itemRequest));
+        when(requestItemMatcher.findSuggestedItems(itemRequest)).thenReturn(List.of(toItemDto(suggested)));
+
+        var itemRequestDtoWithItems = itemRequestService
+                .findByRequestId(itemRequest.getUser().getId(), itemRequest.getId());
+
+        assertTrue(itemRequestDtoWithItems.getItems().isEmpty());
+        assertEquals(1, itemRequestDtoWithItems.getSuggestedItems().size());
+        assertEquals(suggested.getId(), itemRequestDtoWithItems.getSuggestedItems().get(0).getId());
+    }
+
     @Test
     void findAllWithPageableRequestsTest() {
         when(userRepository.existsById(itemRequest.getUser().getId())).thenReturn(true);
         when(userRepository.findById(itemRequest.getUser().getId())).thenReturn(Optional.of(itemRequest.getUser()));
         when(itemRequestRepository
-                .findAll(PageRequest.of(0, 20, Sort.by("created"))))
-                .thenReturn(Page.empty());
+                .findAllByUserIdNot(itemRequest.getUser().getId(), PageRequest.of(0, 20, Sort.by("created", "id"))))
+                .thenReturn(Collections.emptyList());
 
         final var itemRequestDtoWithItems = new ArrayList<>(itemRequestService
                 .findAllRequests(itemRequest.getUser().getId(), 0, 20));
@@ -113,7 +158,23 @@ class ItemRequestServiceImplTest {
         assertNotNull(itemRequestDtoWithItems);
         assertTrue(itemRequestDtoWithItems.isEmpty());
         verify(itemRequestRepository, times(1))
-                .findAll(PageRequest.of(0, 20, Sort.by("created")));
+                .findAllByUserIdNot(itemRequest.getUser().getId(), PageRequest.of(0, 20, Sort.by("created", "id")));
+    }
+
+    @Test
+    void findAllRequestsAfterCursorTest() {
+        var userId = 2L;
+        var cursor = new Cursor(itemRequest.getCreated().minusDays(1), 7L);
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(itemRequestRepository.findAllByUserIdNotAfter(userId, cursor.getTime(), cursor.getId(),
+                PageRequest.of(0, 1)))
+                .thenReturn(List.of(itemRequest));
+
+        var requests = new ArrayList<>(itemRequestService.findAllRequestsAfter(userId, cursor, 1));
+
+        assertEquals(1, requests.size());
+        assertEquals(itemRequest.getId(), requests.get(0).getId());
+        verify(itemRequestRepository, never()).findAll(any(PageRequest.class));
     }
 
     @Test
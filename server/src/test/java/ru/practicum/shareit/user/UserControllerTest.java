@@ -8,11 +8,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.user.controller.UserController;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.version.DataVersions;
 
 import java.util.Collections;
 
@@ -26,6 +28,7 @@ import static ru.practicum.shareit.user.mapper.UserMapper.toUserDto;
 
 @AutoConfigureMockMvc
 @WebMvcTest(UserController.class)
+@Import(DataVersions.class)
 public class UserControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -2,6 +2,13 @@ package ru.practicum.shareit.user;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.exception.EmailValidationException;
 import ru.practicum.shareit.exception.EntityNotFoundException;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.model.User;
@@ -9,6 +16,7 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -21,16 +29,22 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static ru.practicum.shareit.user.mapper.UserMapper.toUserDto;
 
+@SpringBootTest
 class UserServiceImplTest {
 
+    @Autowired
+    private UserService persistentUserService;
+
     private UserService userService;
     private UserRepository userRepository;
+    private EntityCacheEvictor cacheEvictor;
     private final List<User> users = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        userService = new UserServiceImpl(userRepository);
+        cacheEvictor = mock(EntityCacheEvictor.class);
+        userService = new UserServiceImpl(userRepository, cacheEvictor);
 
         users.add(new User(1L, "user1", "user1@mail.ru"));
         users.add(new User(2L, "user2", "user2@mail.ru"));
@@ -65,6 +79,56 @@ class UserServiceImplTest {
         assertThat(expected.getId(), equalTo(user1.getId()));
         assertThat(expected.getName(), equalTo(user2.getName()));
         assertThat(expected.getEmail(), equalTo(user2.getEmail()));
+        verify(cacheEvictor).evict(User.class, user1.getId());
+    }
+
+    @Test
+    void saveWithDuplicateEmailTest() {
+        var user = users.get(0);
+        when(userRepository.save(any())).thenThrow(violation("users_email_key"));
+
+        var exception = assertThrows(EmailValidationException.class, () -> userService.save(toUserDto(user)));
+
+        assertEquals(format("Email: %s уже используется.", user.getEmail()), exception.getMessage());
+    }
+
+    @Test
+    void saveWithOtherConstraintViolationTest() {
+        var user = users.get(0);
+        var violation = violation("users_name_check");
+        when(userRepository.save(any())).thenThrow(violation);
+
+        var exception = assertThrows(DataIntegrityViolationException.class, () -> userService.save(toUserDto(user)));
+
+        assertSame(violation, exception);
+    }
+
+    @Test
+    @Transactional
+    void saveWithEmailTakenInDatabaseTest() {
+        persistentUserService.save(new UserDto(null, "first", "duplicate@mail.ru"));
+
+        var exception = assertThrows(EmailValidationException.class,
+                () -> persistentUserService.save(new UserDto(null, "second", "duplicate@mail.ru")));
+
+        assertEquals("Email: duplicate@mail.ru уже используется.", exception.getMessage());
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraint));
+    }
+
+    @Test
+    void updateWithDuplicateEmailTest() {
+        var user = users.get(0);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userRepository.existsByEmailAndIdNot("user2@mail.ru", user.getId())).thenReturn(true);
+
+        assertThrows(EmailValidationException.class, () -> userService.update(user.getId(),
+                new UserDto(null, null, "user2@mail.ru")));
+        verify(userRepository, never()).findAll();
+        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -72,11 +136,12 @@ class UserServiceImplTest {
         var user = users.get(0);
         var userId = user.getId();
 
-        when(userRepository.existsById(userId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         userService.deleteById(userId);
 
-        verify(userRepository, times(1)).deleteById(userId);
+        verify(userRepository, times(1)).delete(user);
+        verify(cacheEvictor).evict(User.class, userId);
     }
 
     @Test
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.version;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetFilterTest {
+
+    private DataVersions dataVersions;
+    private MutableClock clock;
+    private ConditionalGetFilter filter;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        dataVersions = new DataVersions();
+        clock = new MutableClock();
+        filter = new ConditionalGetFilter(dataVersions, clock, Duration.ofSeconds(30));
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void firstRequestGetsETagTest() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(get("/requests", "1"), response, counting());
+
+        assertEquals(1, calls.get());
+        assertEquals(200, response.getStatus());
+        assertNotNull(response.getHeader("ETag"));
+        assertEquals("X-Sharer-User-Id", response.getHeader("Vary"));
+    }
+
+    @Test
+    void matchingETagAnswersNotModifiedWithoutCallingChainTest() throws Exception {
+        var eTag = eTagOf(get("/bookings", "1"));
+        var request = get("/bookings", "1");
+        request.addHeader("If-None-Match", eTag);
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, counting());
+
+        assertEquals(1, calls.get());
+        assertEquals(304, response.getStatus());
+        assertEquals(eTag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void mutationOfDependentDomainChangesETagTest() throws Exception {
+        var eTag = eTagOf(get("/requests", "1"));
+
+        dataVersions.bump(EnumSet.of(DataDomain.BOOKINGS));
+        assertEquals(eTag, eTagOf(get("/requests", "1")));
+
+        dataVersions.bump(EnumSet.of(DataDomain.ITEMS));
+        assertNotEquals(eTag, eTagOf(get("/requests", "1")));
+    }
+
+    @Test
+    void eTagDependsOnUserTest() throws Exception {
+        assertNotEquals(eTagOf(get("/items/1", "1")), eTagOf(get("/items/1", "2")));
+    }
+
+    @Test
+    void timeDependentViewsExpireWithTimeBucketTest() throws Exception {
+        var current = get("/bookings", "1");
+        current.setParameter("state", "CURRENT");
+        var all = get("/bookings", "1");
+        all.setParameter("state", "ALL");
+        var currentETag = eTagOf(current);
+        var allETag = eTagOf(all);
+        var itemETag = eTagOf(get("/items/1", "1"));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertNotEquals(currentETag, eTagOf(current));
+        assertNotEquals(itemETag, eTagOf(get("/items/1", "1")));
+        assertEquals(allETag, eTagOf(all));
+    }
+
+    @Test
+    void otherRequestsPassThroughTest() throws Exception {
+        var response = new MockHttpServletResponse();
+        var request = get("/bookings/owner", "1");
+        request.addHeader("If-None-Match", "*");
+
+        filter.doFilter(request, response, counting());
+        filter.doFilter(new MockHttpServletRequest("GET", "/requests"), response, counting());
+
+        assertEquals(2, calls.get());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    private String eTagOf(MockHttpServletRequest request) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, counting());
+        return response.getHeader("ETag");
+    }
+
+    private FilterChain counting() {
+        return (request, response) -> {
+            calls.incrementAndGet();
+            ((HttpServletResponse) response).getWriter().write("[]");
+        };
+    }
+
+    private static MockHttpServletRequest get(String path, String userId) {
+        var request = new MockHttpServletRequest("GET", path);
+        request.addHeader("X-Sharer-User-Id", userId);
+        return request;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2023-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ru.practicum.shareit.version;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.version.DataVersionFilter.DATA_VERSION_HEADER;
+
+class DataVersionFilterTest {
+
+    private DataVersions dataVersions;
+    private DataVersionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        dataVersions = new DataVersions();
+        filter = new DataVersionFilter(dataVersions);
+    }
+
+    @Test
+    void readsReportCurrentVersionTest() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/items/1"), response, writing(200));
+
+        assertEquals(0, dataVersions.get(DataDomain.ITEMS));
+        assertEquals(dataVersions.toHeader(), response.getHeader(DATA_VERSION_HEADER));
+    }
+
+    @Test
+    void successfulMutationBumpsVersionBeforeBodyTest() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/items/1/comment"), response, writing(200));
+
+        assertEquals(1, dataVersions.get(DataDomain.ITEMS));
+        assertEquals(0, dataVersions.get(DataDomain.BOOKINGS));
+        assertTrue(response.getHeader(DATA_VERSION_HEADER).contains("items=1"));
+    }
+
+    @Test
+    void mutationWithoutBodyBumpsVersionTest() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/users/1"), response, (req, res) -> { });
+
+        for (DataDomain domain : DataDomain.values()) {
+            assertEquals(1, dataVersions.get(domain));
+        }
+        assertEquals(dataVersions.toHeader(), response.getHeader(DATA_VERSION_HEADER));
+    }
+
+    @Test
+    void failedMutationKeepsVersionTest() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("PATCH", "/bookings/1"), response, writing(404));
+
+        assertEquals(0, dataVersions.get(DataDomain.BOOKINGS));
+        assertTrue(response.getHeader(DATA_VERSION_HEADER).contains("bookings=0"));
+    }
+
+    @Test
+    void mutatedDomainsTest() {
+        assertEquals(EnumSet.of(DataDomain.USERS),
+                DataVersionFilter.mutatedDomains(new MockHttpServletRequest("PATCH", "/users/1")));
+        assertEquals(EnumSet.of(DataDomain.ITEMS, DataDomain.BOOKINGS),
+                DataVersionFilter.mutatedDomains(new MockHttpServletRequest("DELETE", "/items/1")));
+        assertEquals(EnumSet.of(DataDomain.REQUESTS),
+                DataVersionFilter.mutatedDomains(new MockHttpServletRequest("POST", "/requests")));
+        assertTrue(DataVersionFilter.mutatedDomains(new MockHttpServletRequest("GET", "/bookings")).isEmpty());
+    }
+
+    private static FilterChain writing(int status) {
+        return (request, response) -> {
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.getWriter().write("{}");
+        };
+    }
+}